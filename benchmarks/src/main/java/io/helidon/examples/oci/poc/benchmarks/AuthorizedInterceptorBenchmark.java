@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.examples.oci.poc.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.common.types.TypeName;
+import io.helidon.examples.oci.poc.jaxrs.testing.StubServerRequest;
+import io.helidon.examples.oci.poc.jaxrs.testing.StubServerResponse;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.WritableHeaders;
+import io.helidon.service.registry.InterceptionContext;
+import io.helidon.service.registry.Services;
+import io.helidon.webserver.http.HttpEntryPoint;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The generated {@code RequestFilters_interceptor} in front of {@code EchoEndpoint}, for a request
+ * the filter lets through, one it aborts, and a method that is not intercepted at all.
+ * Both are package-private, so the interceptor is obtained from the service registry.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthorizedInterceptorBenchmark {
+
+    private static final TypeName ECHO_ENDPOINT = TypeName.create("io.helidon.examples.oci.poc.echo.EchoEndpoint");
+
+    private HttpEntryPoint.Interceptor interceptor;
+    private InterceptionContext once;
+    private InterceptionContext ping;
+    private StubServerRequest allowedRequest;
+    private StubServerRequest abortedRequest;
+    private StubServerResponse response;
+    private HttpEntryPoint.Interceptor.Chain chain;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        interceptor = Services.all(HttpEntryPoint.Interceptor.class)
+                .stream()
+                .filter(it -> it.getClass().getSimpleName().equals("RequestFilters_interceptor"))
+                .findFirst()
+                .orElseThrow();
+        once = StubInterceptionContext.create(ECHO_ENDPOINT, "once", String.class, String.class, String.class);
+        ping = StubInterceptionContext.create(ECHO_ENDPOINT, "ping", String.class);
+        allowedRequest = new StubServerRequest("/echo/once", WritableHeaders.create()
+                .set(HeaderNames.AUTHORIZATION, "helidon"));
+        abortedRequest = new StubServerRequest("/echo/once", WritableHeaders.create());
+        response = new StubServerResponse();
+        chain = (request, response) -> blackhole.consume(request);
+    }
+
+    @Benchmark
+    public StubServerResponse allowed() throws Exception {
+        response.reset();
+        interceptor.proceed(once, chain, allowedRequest, response);
+        return response;
+    }
+
+    @Benchmark
+    public StubServerResponse aborted() throws Exception {
+        response.reset();
+        interceptor.proceed(once, chain, abortedRequest, response);
+        return response;
+    }
+
+    @Benchmark
+    public StubServerResponse notIntercepted() throws Exception {
+        response.reset();
+        interceptor.proceed(ping, chain, allowedRequest, response);
+        return response;
+    }
+}
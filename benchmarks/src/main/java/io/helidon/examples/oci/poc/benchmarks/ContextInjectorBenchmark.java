@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.examples.oci.poc.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.examples.oci.poc.echo.AuthorizationFilter;
+import io.helidon.examples.oci.poc.echo.AuthorizationFilter__ContextInjector;
+import io.helidon.examples.oci.poc.jaxrs.HelidonContainerRequestContext;
+import io.helidon.examples.oci.poc.jaxrs.HelidonContextInjector;
+import io.helidon.examples.oci.poc.jaxrs.HelidonResourceInfo;
+import io.helidon.examples.oci.poc.jaxrs.testing.StubServerRequest;
+import io.helidon.http.WritableHeaders;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@code @Context} injection and {@code @PostConstruct} of a new {@link AuthorizationFilter},
+ * through the reflective {@link HelidonContextInjector} and through the generated injector.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContextInjectorBenchmark {
+
+    private HelidonContainerRequestContext context;
+
+    @Setup
+    public void setup() {
+        StubServerRequest request = new StubServerRequest("/echo/once", WritableHeaders.create());
+        context = new HelidonContainerRequestContext(request, HelidonResourceInfo.create(Object.class, "toString"));
+    }
+
+    @Benchmark
+    public AuthorizationFilter reflectiveInject() {
+        AuthorizationFilter filter = new AuthorizationFilter();
+        HelidonContextInjector.inject(filter, context);
+        return filter;
+    }
+
+    @Benchmark
+    public AuthorizationFilter reflectiveInjectAndPostConstruct() {
+        AuthorizationFilter filter = new AuthorizationFilter();
+        HelidonContextInjector.inject(filter, context);
+        HelidonContextInjector.postConstruct(filter);
+        return filter;
+    }
+
+    @Benchmark
+    public AuthorizationFilter generatedInject() {
+        AuthorizationFilter filter = new AuthorizationFilter();
+        AuthorizationFilter__ContextInjector.inject(filter, context);
+        return filter;
+    }
+
+    @Benchmark
+    public AuthorizationFilter generatedInjectAndPostConstruct() {
+        AuthorizationFilter filter = new AuthorizationFilter();
+        AuthorizationFilter__ContextInjector.inject(filter, context);
+        AuthorizationFilter__ContextInjector.postConstruct(filter);
+        return filter;
+    }
+}
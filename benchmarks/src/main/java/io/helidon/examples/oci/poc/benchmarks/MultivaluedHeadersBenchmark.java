@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.examples.oci.poc.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.examples.oci.poc.jaxrs.HelidonMultivaluedHashMap;
+import io.helidon.examples.oci.poc.jaxrs.testing.StubServerRequest;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.WritableHeaders;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Header access through {@link HelidonMultivaluedHashMap} as done by the authorization filter:
+ * read the {@code Authorization} header, then put the {@code User} header.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MultivaluedHeadersBenchmark {
+
+    private static final List<String> USER = List.of("helidon");
+
+    private HelidonMultivaluedHashMap headers;
+
+    @Setup
+    public void setup() {
+        StubServerRequest request = new StubServerRequest("/echo/once", WritableHeaders.create()
+                .set(HeaderNames.AUTHORIZATION, "helidon")
+                .set(HeaderNames.ACCEPT, "text/plain")
+                .set(HeaderNames.CONTENT_TYPE, "text/plain"));
+        headers = new HelidonMultivaluedHashMap(request);
+    }
+
+    @Benchmark
+    public String getFirst() {
+        return headers.getFirst("Authorization");
+    }
+
+    @Benchmark
+    public List<String> put() {
+        return headers.put("User", USER);
+    }
+
+    @Benchmark
+    public List<String> getFirstAndPut() {
+        String value = headers.getFirst("Authorization");
+        return headers.put("User", List.of(value));
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.examples.oci.poc.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.container.ResourceInfo;
+
+import io.helidon.examples.oci.poc.jaxrs.HelidonResourceInfo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Resource method lookup of {@link HelidonResourceInfo}: with an empty method cache (cold),
+ * with the method cached (warm), and from a pre-resolved constant as used by generated code.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResourceInfoBenchmark {
+
+    private static final String SERVICE_TYPE = Resource.class.getName();
+    private static final String SIGNATURE = "java.lang.String hello(java.lang.String)";
+    private static final ResourceInfo RESOLVED = HelidonResourceInfo.create(Resource.class, "hello", String.class);
+
+    @Benchmark
+    public Method cold() {
+        HelidonResourceInfo.clearMethodCache(Resource.class);
+        return new HelidonResourceInfo(SERVICE_TYPE, SIGNATURE).getResourceMethod();
+    }
+
+    @Benchmark
+    public Method warm() {
+        return new HelidonResourceInfo(SERVICE_TYPE, SIGNATURE).getResourceMethod();
+    }
+
+    @Benchmark
+    public Method resolved() {
+        return RESOLVED.getResourceMethod();
+    }
+
+    /**
+     * Resource class whose method is looked up.
+     */
+    public static class Resource {
+        public String hello(String name) {
+            return name;
+        }
+    }
+}
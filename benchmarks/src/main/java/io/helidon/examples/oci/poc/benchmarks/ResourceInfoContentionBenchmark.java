@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.examples.oci.poc.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.examples.oci.poc.jaxrs.HelidonResourceInfo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Shared method cache of {@link HelidonResourceInfo} under contention. Each operation creates
+ * a new resource info from a signature, so the lookup always goes through the shared cache.
+ * The resource class is loaded once in the setup, so the class loader lock is not measured.
+ * Time per operation should stay flat as the number of threads grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResourceInfoContentionBenchmark {
+
+    private static final String SERVICE_TYPE = Resource.class.getName();
+    private static final String SIGNATURE = "java.lang.String hello(java.lang.String)";
+
+    private Class<?> resourceClass;
+
+    @Setup
+    public void setup() throws ClassNotFoundException {
+        resourceClass = Thread.currentThread().getContextClassLoader().loadClass(SERVICE_TYPE);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Method threads1() {
+        return lookup();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Method threads4() {
+        return lookup();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Method threads16() {
+        return lookup();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Method threads64() {
+        return lookup();
+    }
+
+    private Method lookup() {
+        return new HelidonResourceInfo(resourceClass, SIGNATURE).getResourceMethod();
+    }
+
+    /**
+     * Resource class whose method is looked up.
+     */
+    public static class Resource {
+        public String hello(String name) {
+            return name;
+        }
+    }
+}
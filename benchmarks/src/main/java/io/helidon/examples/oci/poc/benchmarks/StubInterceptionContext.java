@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.examples.oci.poc.benchmarks;
+
+import io.helidon.common.types.ElementKind;
+import io.helidon.common.types.TypeName;
+import io.helidon.common.types.TypedElementInfo;
+import io.helidon.service.registry.InterceptionContext;
+import io.helidon.service.registry.Service;
+import io.helidon.service.registry.ServiceInfo;
+
+/**
+ * Interception contexts for entry point methods, as created by the declarative codegen.
+ */
+public final class StubInterceptionContext {
+
+    private StubInterceptionContext() {
+    }
+
+    /**
+     * Create an interception context for a method.
+     *
+     * @param serviceType the endpoint class
+     * @param methodName the method name
+     * @param returnType the method return type
+     * @param parameterTypes the method parameter types
+     * @return interception context
+     */
+    public static InterceptionContext create(Class<?> serviceType,
+                                             String methodName,
+                                             Class<?> returnType,
+                                             Class<?>... parameterTypes) {
+        return create(TypeName.create(serviceType), methodName, returnType, parameterTypes);
+    }
+
+    /**
+     * Create an interception context for a method of an endpoint that is not accessible.
+     *
+     * @param serviceType the endpoint type
+     * @param methodName the method name
+     * @param returnType the method return type
+     * @param parameterTypes the method parameter types
+     * @return interception context
+     */
+    public static InterceptionContext create(TypeName serviceType,
+                                             String methodName,
+                                             Class<?> returnType,
+                                             Class<?>... parameterTypes) {
+        TypedElementInfo.Builder element = TypedElementInfo.builder()
+                .kind(ElementKind.METHOD)
+                .elementName(methodName)
+                .typeName(TypeName.create(returnType));
+        for (int i = 0; i < parameterTypes.length; i++) {
+            element.addParameterArgument(TypedElementInfo.builder()
+                                                 .kind(ElementKind.PARAMETER)
+                                                 .elementName("arg" + i)
+                                                 .typeName(TypeName.create(parameterTypes[i]))
+                                                 .build());
+        }
+        return InterceptionContext.builder()
+                .serviceInfo(new StubServiceInfo(serviceType))
+                .elementInfo(element.build())
+                .build();
+    }
+
+    private record StubServiceInfo(TypeName serviceType) implements ServiceInfo {
+
+        @Override
+        public TypeName descriptorType() {
+            return serviceType;
+        }
+
+        @Override
+        public TypeName scope() {
+            return Service.Singleton.TYPE;
+        }
+    }
+}
@@ -16,13 +16,26 @@
 
 package io.helidon.examples.oci.poc.codegen;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
+import io.helidon.codegen.CodegenException;
+import io.helidon.codegen.ElementInfoPredicates;
 import io.helidon.codegen.classmodel.ClassModel;
 import io.helidon.codegen.classmodel.Field;
+import io.helidon.codegen.classmodel.Method;
 import io.helidon.common.types.AccessModifier;
 import io.helidon.common.types.Annotation;
 import io.helidon.common.types.Annotations;
@@ -38,7 +51,8 @@ import io.helidon.service.codegen.spi.RegistryCodegenExtension;
 class OciExtension implements RegistryCodegenExtension {
 
     private final RegistryCodegenContext ctx;
-    private final Map<String, Set<String>> methods = new HashMap<>();
+    private final Map<String, List<InterceptedMethod>> methods = new HashMap<>();
+    private final Map<TypeName, Optional<TypeName>> injectors = new HashMap<>();
 
     OciExtension(RegistryCodegenContext ctx) {
         this.ctx = ctx;
@@ -49,23 +63,65 @@ class OciExtension implements RegistryCodegenExtension {
         // init processing
         methods.clear();
 
-        // collect all methods and group them by package
+        // name bindings of this round, request and response filters are bound to them
+        Set<TypeName> bindings = new HashSet<>(roundContext.annotatedAnnotations(OciTypes.NAME_BINDING));
+        List<BoundFilter> requestFilters = new ArrayList<>();
+        List<BoundFilter> responseFilters = new ArrayList<>();
         for (TypeInfo typeInfo : roundContext.types()) {
+            Set<TypeName> filterBindings = bindings(typeInfo.annotations(), bindings);
+            if (filterBindings.isEmpty()) {
+                continue;
+            }
+            BoundFilter filter = new BoundFilter(typeInfo, filterBindings, priority(typeInfo));
+            if (implementsInterface(typeInfo, OciTypes.CONTAINER_REQUEST_FILTER)) {
+                requestFilters.add(filter);
+            }
+            if (implementsInterface(typeInfo, OciTypes.CONTAINER_RESPONSE_FILTER)) {
+                responseFilters.add(filter);
+            }
+        }
+        // ordered once here, so the generated chains need no sorting; as in JAX-RS,
+        // request filters run by ascending priority and response filters by descending priority
+        Comparator<BoundFilter> order = Comparator.comparingInt(BoundFilter::priority);
+        requestFilters.sort(order.thenComparing(it -> it.typeInfo().typeName().fqName()));
+        responseFilters.sort(order.reversed().thenComparing(it -> it.typeInfo().typeName().fqName()));
+
+        // collect all methods with at least one filter and group them by package
+        for (TypeInfo typeInfo : roundContext.types()) {
+            if (implementsInterface(typeInfo, OciTypes.CONTAINER_REQUEST_FILTER)
+                    || implementsInterface(typeInfo, OciTypes.CONTAINER_RESPONSE_FILTER)) {
+                continue;
+            }
+            Set<TypeName> typeBindings = bindings(typeInfo.annotations(), bindings);
             for (TypedElementInfo elementInfo : typeInfo.elementInfo()) {
-                if (elementInfo.hasAnnotation(OciTypes.AUTHORIZED_ANNOTATION)) {
+                if (!ElementInfoPredicates.isMethod(elementInfo)) {
+                    continue;
+                }
+                Set<TypeName> methodBindings = bindings(elementInfo.annotations(), bindings);
+                if (isEntryPoint(elementInfo)) {
+                    methodBindings.addAll(typeBindings);
+                }
+                // as in JAX-RS, a filter applies if the method has all of its bindings
+                List<BoundFilter> requestChain = requestFilters.stream()
+                        .filter(it -> methodBindings.containsAll(it.bindings()))
+                        .toList();
+                List<BoundFilter> responseChain = responseFilters.stream()
+                        .filter(it -> methodBindings.containsAll(it.bindings()))
+                        .toList();
+                if (!requestChain.isEmpty() || !responseChain.isEmpty()) {
                     String packageName = typeInfo.typeName().packageName();
-                    Set<String> set = methods.computeIfAbsent(packageName, k -> new HashSet<>());
-                    set.add(typeInfo.typeName().toString() + "::" + elementInfo.signature().toString());
+                    List<InterceptedMethod> list = methods.computeIfAbsent(packageName, k -> new ArrayList<>());
+                    list.add(new InterceptedMethod(typeInfo.typeName(), elementInfo, requestChain, responseChain));
                 }
             }
         }
 
         // generate an interceptor per package
         for (String packageName : methods.keySet()) {
-            Set<String> methodElements = methods.get(packageName);
+            List<InterceptedMethod> methodElements = methods.get(packageName);
             TypeName generatedType = TypeName.builder()
                     .packageName(packageName)
-                    .className("Authorized_interceptor")
+                    .className("RequestFilters_interceptor")
                     .build();
             generateInterceptor(roundContext, generatedType, methodElements);
         }
@@ -73,7 +129,7 @@ class OciExtension implements RegistryCodegenExtension {
 
     private void generateInterceptor(RegistryRoundContext roundContext,
                                      TypeName generatedType,
-                                     Set<String> methodElements) {
+                                     List<InterceptedMethod> methodElements) {
         ClassModel.Builder builder = ClassModel.builder()
                 .accessModifier(AccessModifier.PACKAGE_PRIVATE)
                 .addAnnotation(Annotation.create(ServiceCodegenTypes.SERVICE_ANNOTATION_SINGLETON))
@@ -81,14 +137,16 @@ class OciExtension implements RegistryCodegenExtension {
                 .addInterface(OciTypes.HTTP_ENTRYPOINT_INTERCEPTOR)
                 .sortStaticFields(false);
 
-        builder.addImport(TypeNames.SET)
+        builder.addImport(TypeNames.LIST)
                 .addImport(TypeNames.TYPE_NAME)
-                .addImport(TypeNames.TYPED_ELEMENT_INFO)
-                .addImport("java.util.HashSet")
-                .addImport("io.helidon.examples.oci.poc.echo.AuthorizationFilter")
-                .addImport("io.helidon.examples.oci.poc.jaxrs.HelidonContainerRequestContext")
-                .addImport("io.helidon.examples.oci.poc.jaxrs.HelidonContextInjector")
-                .addImport("io.helidon.examples.oci.poc.jaxrs.HelidonResourceInfo");
+                .addImport(OciTypes.ELEMENT_SIGNATURE)
+                .addImport(OciTypes.RESOURCE_INFO)
+                .addImport(OciTypes.HELIDON_CONTAINER_REQUEST_CONTEXT)
+                .addImport("io.helidon.examples.oci.poc.jaxrs.HelidonResourceInfo")
+                .addImport(OciTypes.HELIDON_FILTER_METRICS)
+                .addImport(OciTypes.HELIDON_FILTER_LOGGING)
+                .addImport(OciTypes.METRICS_TIMER)
+                .addImport(TimeUnit.class);
 
         builder.addField(field -> field.name("LOGGER")
                 .isStatic(true)
@@ -97,66 +155,616 @@ class OciExtension implements RegistryCodegenExtension {
                 .type("System.Logger")
                 .addContent("System.getLogger(\"" + generatedType.name() + "\")"));
 
+        // type constants used by the generated dispatch, compared with equals (no allocation)
+        Map<String, String> typeConstants = new LinkedHashMap<>();
+        Map<TypeName, List<InterceptedMethod>> byService = new LinkedHashMap<>();
+        for (InterceptedMethod methodElement : methodElements) {
+            byService.computeIfAbsent(methodElement.serviceType(), k -> new ArrayList<>()).add(methodElement);
+            typeConstant(typeConstants, methodElement.serviceType());
+            for (TypedElementInfo parameter : methodElement.element().parameterArguments()) {
+                typeConstant(typeConstants, parameter.typeName());
+            }
+        }
+        typeConstants.forEach((fqName, constant) -> builder.addField(field -> field.name(constant)
+                .isStatic(true)
+                .isFinal(true)
+                .accessModifier(AccessModifier.PRIVATE)
+                .type(TypeNames.TYPE_NAME)
+                .addContent("TypeName.create(\"" + fqName + "\")")));
+
+        // resource info resolved once per intercepted method, indexed by dispatch
         Field.Builder fieldBuilder = Field.builder();
-        fieldBuilder.name("INTERCEPTED_METHODS")
+        fieldBuilder.name("RESOURCE_INFOS")
                 .isStatic(true)
                 .isFinal(true)
                 .accessModifier(AccessModifier.PRIVATE)
-                .type("Set<String>")
-                .addContent("new HashSet(Set.of(\n")
+                .type("ResourceInfo[]")
+                .addContent("{\n")
                 .increaseContentPadding();
-        boolean first = true;
-        for (String methodElement : methodElements) {
-            if (!first) {
-                fieldBuilder.addContent(",\n");
+        for (int i = 0; i < methodElements.size(); i++) {
+            InterceptedMethod methodElement = methodElements.get(i);
+            fieldBuilder.addContent("HelidonResourceInfo.create(")
+                    .addContent(methodElement.serviceType())
+                    .addContent(".class, \"" + methodElement.element().elementName() + "\"");
+            for (TypedElementInfo parameter : methodElement.element().parameterArguments()) {
+                fieldBuilder.addContent(", ")
+                        .addContent(parameter.typeName().genericTypeName())
+                        .addContent(".class");
             }
-            first = false;
-            fieldBuilder.addContent("\"" + methodElement + "\"");
+            fieldBuilder.addContent(i < methodElements.size() - 1 ? "),\n" : ")");
         }
-        fieldBuilder.addContent("))");
+        fieldBuilder.decreaseContentPadding()
+                .addContent("\n}");
         builder.addField(fieldBuilder.build());
 
-        builder.addMethod(proceed -> proceed.addAnnotation(Annotations.OVERRIDE)
-                .returnType(TypeNames.PRIMITIVE_VOID)
-                .accessModifier(AccessModifier.PUBLIC)
-                .name("proceed")
-                .addParameter(p -> p.type(OciTypes.INTERCEPTOR_CONTEXT)
-                        .name("interceptionContext"))
-                .addParameter(p -> p.type(OciTypes.CHAIN)
-                        .name("chain"))
-                .addParameter(p -> p.type(OciTypes.SERVER_REQUEST)
-                        .name("request"))
-                .addParameter(p -> p.type(OciTypes.SERVER_RESPONSE)
-                        .name("response"))
-                .addThrows(t -> t.type(Exception.class))
-                .addContentLine("""        
-        TypedElementInfo typedElementInfo = interceptionContext.elementInfo();
-        String serviceType = interceptionContext.serviceInfo().serviceType().toString();
-        String methodSignature = typedElementInfo.signature().toString();
-        String method = serviceType + "::" + methodSignature;
-
-        if (INTERCEPTED_METHODS.contains(method)) {
-            LOGGER.log(System.Logger.Level.DEBUG, "Intercepting call '" + typedElementInfo.signature() + "'");
-
-            AuthorizationFilter filter = new AuthorizationFilter();
-            HelidonResourceInfo resourceInfo = new HelidonResourceInfo(serviceType, methodSignature);
-            HelidonContainerRequestContext context = new HelidonContainerRequestContext(request, resourceInfo);
-            HelidonContextInjector.inject(filter, context);
-            HelidonContextInjector.postConstruct(filter);
-
-            filter.filter(context);
-
-            if (context.isAborted()) {
-                String msg = context.getAbortMessage();
-                response.status(context.getAbortStatus()).send(msg != null ? msg : "");
-                return;
-            }
-        }
-
-        chain.proceed(request, response);"""));
+        // log messages computed once from method IDs known at build time
+        fieldBuilder = Field.builder();
+        fieldBuilder.name("INTERCEPT_MESSAGES")
+                .isStatic(true)
+                .isFinal(true)
+                .accessModifier(AccessModifier.PRIVATE)
+                .type("String[]")
+                .addContent("HelidonFilterLogging.interceptMessages(\n")
+                .increaseContentPadding()
+                .increaseContentPadding();
+        for (int i = 0; i < methodElements.size(); i++) {
+            fieldBuilder.addContent("\"" + methodId(methodElements.get(i)) + "\"")
+                    .addContent(i < methodElements.size() - 1 ? ",\n" : "");
+        }
+        fieldBuilder.decreaseContentPadding()
+                .decreaseContentPadding()
+                .addContent(")");
+        builder.addField(fieldBuilder.build());
+
+        // methods sharing the same filters share their chains
+        Map<List<List<TypeName>>, List<Integer>> chains = new LinkedHashMap<>();
+        Map<TypeName, FilterCall> calls = new LinkedHashMap<>();
+        for (int i = 0; i < methodElements.size(); i++) {
+            InterceptedMethod methodElement = methodElements.get(i);
+            List<List<TypeName>> key = List.of(filterTypes(methodElement.requestFilters()),
+                                               filterTypes(methodElement.responseFilters()));
+            chains.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+            List<BoundFilter> filters = new ArrayList<>(methodElement.requestFilters());
+            filters.addAll(methodElement.responseFilters());
+            for (BoundFilter filter : filters) {
+                if (!calls.containsKey(filter.typeInfo().typeName())) {
+                    calls.put(filter.typeInfo().typeName(), filterCall(roundContext, filter, calls.values()));
+                }
+            }
+        }
+
+        // chain expressions per group of methods, "true" or the response itself if there are no filters
+        List<String> requestChains = new ArrayList<>();
+        List<String> responseChains = new ArrayList<>();
+        Map<List<TypeName>, String> chainNames = new HashMap<>();
+        Map<List<TypeName>, String> responseChainNames = new HashMap<>();
+        List<Consumer<Method.Builder>> chainMethods = new ArrayList<>();
+        for (List<List<TypeName>> key : chains.keySet()) {
+            if (key.get(0).isEmpty()) {
+                requestChains.add("true");
+            } else {
+                String name = chainNames.computeIfAbsent(key.get(0), types -> {
+                    String chainName = "chain" + chainNames.size();
+                    List<FilterCall> chainCalls = types.stream().map(calls::get).toList();
+                    chainMethods.add(chainMethod -> generateChain(chainMethod, chainName, chainCalls, false));
+                    return chainName;
+                });
+                requestChains.add(name + "(context)");
+            }
+            if (key.get(1).isEmpty()) {
+                responseChains.add("response");
+            } else {
+                String name = responseChainNames.computeIfAbsent(key.get(1), types -> {
+                    String chainName = "responseChain" + responseChainNames.size();
+                    List<FilterCall> chainCalls = types.stream().map(calls::get).toList();
+                    chainMethods.add(chainMethod -> generateChain(chainMethod, chainName, chainCalls, true));
+                    return chainName;
+                });
+                responseChains.add("new HelidonFilteredResponse(response, it -> " + name + "(context, it))");
+            }
+        }
+        // meters are registered when the interceptor is created, recording does not allocate
+        fieldBuilder = Field.builder();
+        fieldBuilder.name("methodTimers")
+                .isFinal(true)
+                .accessModifier(AccessModifier.PRIVATE)
+                .type("Timer[]")
+                .addContent("{\n")
+                .increaseContentPadding();
+        for (int i = 0; i < methodElements.size(); i++) {
+            InterceptedMethod methodElement = methodElements.get(i);
+            fieldBuilder.addContent("HelidonFilterMetrics.methodTimer(")
+                    .addContent(methodElement.serviceType())
+                    .addContent(".class, \"" + methodElement.element().elementName() + "\"")
+                    .addContent(i < methodElements.size() - 1 ? "),\n" : ")");
+        }
+        fieldBuilder.decreaseContentPadding()
+                .addContent("\n}");
+        builder.addField(fieldBuilder.build());
+        for (FilterCall call : calls.values()) {
+            builder.addField(field -> field.name(call.name() + "Timer")
+                    .isFinal(true)
+                    .accessModifier(AccessModifier.PRIVATE)
+                    .type(OciTypes.METRICS_TIMER)
+                    .addContent("HelidonFilterMetrics.filterTimer(")
+                    .addContent(call.filterType())
+                    .addContent(".class)"));
+            builder.addField(field -> field.name(call.name() + "InjectionTimer")
+                    .isFinal(true)
+                    .accessModifier(AccessModifier.PRIVATE)
+                    .type(OciTypes.METRICS_TIMER)
+                    .addContent("HelidonFilterMetrics.injectionTimer(")
+                    .addContent(call.filterType())
+                    .addContent(".class)"));
+        }
+
+        boolean filterRequest = requestChains.stream().anyMatch(it -> !it.equals("true"));
+        boolean filterResponse = responseChains.stream().anyMatch(it -> !it.equals("response"));
+        if (filterResponse) {
+            builder.addImport(OciTypes.HELIDON_CONTAINER_RESPONSE_CONTEXT)
+                    .addImport(OciTypes.HELIDON_FILTERED_RESPONSE);
+        }
+
+        // singleton filters are created once, their @Context fields resolve the request in scope
+        List<FilterCall> singletons = calls.values()
+                .stream()
+                .filter(FilterCall::singleton)
+                .toList();
+        if (!singletons.isEmpty()) {
+            builder.addImport(OciTypes.HELIDON_REQUEST_SCOPE);
+            for (FilterCall call : singletons) {
+                builder.addField(field -> field.name(call.name())
+                        .isFinal(true)
+                        .accessModifier(AccessModifier.PRIVATE)
+                        .type(call.filterType()));
+            }
+            builder.addConstructor(ctr -> {
+                ctr.accessModifier(AccessModifier.PACKAGE_PRIVATE)
+                        .addContentLine("long start;");
+                for (FilterCall call : singletons) {
+                    ctr.addContentLine("start = System.nanoTime();")
+                            .addContent(call.name() + " = new ")
+                            .addContent(call.filterType())
+                            .addContentLine("();")
+                            .addContent(call.injectorType())
+                            .addContentLine(".injectScoped(" + call.name() + ");")
+                            .addContent(call.injectorType())
+                            .addContentLine(".postConstruct(" + call.name() + ");")
+                            .addContentLine(call.name() + "InjectionTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);");
+                }
+            });
+        }
+
+        builder.addMethod(proceed -> {
+            proceed.addAnnotation(Annotations.OVERRIDE)
+                    .returnType(TypeNames.PRIMITIVE_VOID)
+                    .accessModifier(AccessModifier.PUBLIC)
+                    .name("proceed")
+                    .addParameter(p -> p.type(OciTypes.INTERCEPTOR_CONTEXT)
+                            .name("interceptionContext"))
+                    .addParameter(p -> p.type(OciTypes.CHAIN)
+                            .name("chain"))
+                    .addParameter(p -> p.type(OciTypes.SERVER_REQUEST)
+                            .name("request"))
+                    .addParameter(p -> p.type(OciTypes.SERVER_RESPONSE)
+                            .name("response"))
+                    .addThrows(t -> t.type(Exception.class))
+                    .addContent("""
+        int index = methodIndex(interceptionContext);
+        if (index < 0) {
+            chain.proceed(request, response);
+            return;
+        }
+
+        ResourceInfo resourceInfo = RESOURCE_INFOS[index];
+        if (LOGGER.isLoggable(System.Logger.Level.DEBUG)) {
+            LOGGER.log(System.Logger.Level.DEBUG, INTERCEPT_MESSAGES[index]);
+        }
+
+        HelidonContainerRequestContext context = new HelidonContainerRequestContext(request, resourceInfo);
+        """)
+                    .addContentLine("try {");
+            // response filters also run on an aborted request
+            String target = "response";
+            if (filterResponse) {
+                proceed.addContent(dispatch("ServerResponse filteredResponse", chains.values(), responseChains));
+                target = "filteredResponse";
+            }
+            if (filterRequest) {
+                proceed.addContent(dispatch("boolean completed", chains.values(), requestChains))
+                        .addContent("""
+        if (!completed) {
+            HelidonFilterMetrics.aborted(context.getAbortResponse().getStatus());
+            context.sendAbortResponse(%1$s);
+            return;
+        }
+
+        """.formatted(target));
+            }
+            // a filter may have read the entity, the resource method gets it from the entity request;
+            // a replaced entity stream is closed right away, so that a verifying stream sees all of it
+            proceed.addContent("""
+        long start = System.nanoTime();
+        chain.proceed(context.entityRequest(), %1$s);
+        methodTimers[index].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        context.closeEntity();
+        """.formatted(target))
+                    .decreaseContentPadding()
+                    .addContentLine("} finally {")
+                    .addContentLine("context.releaseEntity();")
+                    .addContent("}");
+        });
+
+        chainMethods.forEach(builder::addMethod);
+
+        builder.addMethod(methodIndex -> {
+            methodIndex.returnType(TypeNames.PRIMITIVE_INT)
+                    .accessModifier(AccessModifier.PRIVATE)
+                    .isStatic(true)
+                    .name("methodIndex")
+                    .addParameter(p -> p.type(OciTypes.INTERCEPTOR_CONTEXT)
+                            .name("interceptionContext"))
+                    .addContentLine("TypeName serviceType = interceptionContext.serviceInfo().serviceType();")
+                    .addContentLine("ElementSignature signature = interceptionContext.elementInfo().signature();");
+            byService.forEach((serviceType, serviceMethods) -> {
+                methodIndex.addContentLine("if (" + typeConstants.get(erasure(serviceType)) + ".equals(serviceType)) {")
+                        .addContentLine("List<TypeName> parameters = signature.parameterTypes();")
+                        .addContentLine("switch (signature.name()) {");
+                Map<String, List<InterceptedMethod>> byName = new LinkedHashMap<>();
+                serviceMethods.forEach(it -> byName.computeIfAbsent(it.element().elementName(), k -> new ArrayList<>())
+                        .add(it));
+                byName.forEach((name, overloads) -> {
+                    methodIndex.addContentLine("case \"" + name + "\" -> {");
+                    for (InterceptedMethod overload : overloads) {
+                        List<TypedElementInfo> parameters = overload.element().parameterArguments();
+                        methodIndex.addContent("if (parameters.size() == " + parameters.size());
+                        for (int i = 0; i < parameters.size(); i++) {
+                            methodIndex.addContent("\n        && parameters.get(" + i + ").equals("
+                                                           + typeConstants.get(erasure(parameters.get(i).typeName()))
+                                                           + ")");
+                        }
+                        methodIndex.addContentLine(") {")
+                                .addContentLine("return " + methodElements.indexOf(overload) + ";")
+                                .addContentLine("}");
+                    }
+                    methodIndex.addContentLine("}");
+                });
+                methodIndex.addContentLine("default -> {")
+                        .addContentLine("}")
+                        .addContentLine("}")
+                        .addContentLine("}");
+            });
+            methodIndex.addContentLine("return -1;");
+        });
 
         roundContext.addGeneratedType(generatedType,
                                       builder,
                                       generatedType);
     }
+
+    /*
+     * Local variable assigned from the chain of the intercepted method, as a single piece of
+     * content with explicit padding, same as the surrounding text blocks.
+     */
+    private static String dispatch(String variable, Collection<List<Integer>> indexes, List<String> chains) {
+        // method indexes per distinct chain expression
+        Map<String, List<Integer>> cases = new LinkedHashMap<>();
+        int chainIndex = 0;
+        for (List<Integer> chainIndexes : indexes) {
+            cases.computeIfAbsent(chains.get(chainIndex++), k -> new ArrayList<>()).addAll(chainIndexes);
+        }
+        if (cases.size() == 1) {
+            return variable + " = " + chains.getFirst() + ";\n";
+        }
+        StringBuilder dispatch = new StringBuilder(variable + " = switch (index) {\n");
+        int caseIndex = 0;
+        for (Map.Entry<String, List<Integer>> entry : cases.entrySet()) {
+            String label = caseIndex++ == cases.size() - 1
+                    ? "default"
+                    : "case " + entry.getValue().stream().sorted().map(String::valueOf).collect(Collectors.joining(", "));
+            dispatch.append("    ").append(label).append(" -> ").append(entry.getKey()).append(";\n");
+        }
+        return dispatch.append("};\n").toString();
+    }
+
+    /*
+     * Unrolled filter chain. A request chain waits for a filter that suspended the request and
+     * returns false as soon as a filter aborts it, a response chain runs all filters. Each filter
+     * is timed including the wait, and creating a filter per request is timed separately.
+     */
+    private static void generateChain(Method.Builder chainMethod, String name, List<FilterCall> calls, boolean response) {
+        chainMethod.accessModifier(AccessModifier.PRIVATE)
+                .returnType(response ? TypeNames.PRIMITIVE_VOID : TypeNames.PRIMITIVE_BOOLEAN)
+                .name(name)
+                .addParameter(p -> p.type(OciTypes.HELIDON_CONTAINER_REQUEST_CONTEXT)
+                        .name("context"))
+                .addThrows(t -> t.type(IOException.class));
+        if (response) {
+            chainMethod.addParameter(p -> p.type(OciTypes.HELIDON_CONTAINER_RESPONSE_CONTEXT)
+                    .name("responseContext"));
+        }
+
+        boolean scoped = calls.stream().anyMatch(FilterCall::singleton);
+        if (scoped) {
+            chainMethod.addContentLine("HelidonContainerRequestContext previous = HelidonRequestScope.enter(context);")
+                    .addContentLine("try {");
+        }
+        chainMethod.addContentLine("long start;");
+        if (!response) {
+            chainMethod.addContentLine("boolean resumed;");
+        }
+        for (int i = 0; i < calls.size(); i++) {
+            FilterCall call = calls.get(i);
+            chainMethod.addContentLine("start = System.nanoTime();");
+            if (!call.singleton()) {
+                chainMethod.addContent(call.filterType())
+                        .addContent(" " + call.name() + " = new ")
+                        .addContent(call.filterType())
+                        .addContentLine("();")
+                        .addContent(call.injectorType())
+                        .addContentLine(".inject(" + call.name() + ", context);")
+                        .addContent(call.injectorType())
+                        .addContentLine(".postConstruct(" + call.name() + ");")
+                        .addContentLine(call.name() + "InjectionTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);")
+                        .addContentLine("start = System.nanoTime();");
+            }
+            String record = call.name() + "Timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);";
+            if (response) {
+                chainMethod.addContentLine(call.name() + ".filter(context, responseContext);")
+                        .addContentLine(record);
+            } else {
+                chainMethod.addContentLine(call.name() + ".filter(context);")
+                        .addContentLine("resumed = context.resume();")
+                        .addContentLine(record);
+                if (i < calls.size() - 1) {
+                    chainMethod.addContentLine("if (!resumed) {")
+                            .addContentLine("return false;")
+                            .addContentLine("}");
+                } else {
+                    chainMethod.addContentLine("return resumed;");
+                }
+            }
+        }
+        if (scoped) {
+            chainMethod.decreaseContentPadding()
+                    .addContentLine("} finally {")
+                    .addContentLine("HelidonRequestScope.exit(previous);")
+                    .addContentLine("}");
+        }
+    }
+
+    /*
+     * How the generated chain calls a filter: typed injector if codegen can see the filter,
+     * reflection otherwise.
+     */
+    private FilterCall filterCall(RegistryRoundContext roundContext, BoundFilter filter, Collection<FilterCall> existing) {
+        TypeInfo filterInfo = filter.typeInfo();
+        TypeName injectorType = injector(roundContext, filterInfo)
+                .orElse(OciTypes.HELIDON_CONTEXT_INJECTOR);
+        String className = filterInfo.typeName().classNameWithEnclosingNames().replace(".", "");
+        String simpleName = Character.toLowerCase(className.charAt(0)) + className.substring(1);
+        String name = existing.stream().anyMatch(it -> it.name().equals(simpleName))
+                ? simpleName + existing.size()
+                : simpleName;
+        return new FilterCall(filterInfo.typeName(),
+                              injectorType,
+                              name,
+                              filterInfo.hasAnnotation(OciTypes.SINGLETON_FILTER_ANNOTATION));
+    }
+
+    // service type, method name and parameter types, such as "a.b.Service.hello(java.lang.String)"
+    private static String methodId(InterceptedMethod method) {
+        return method.serviceType().fqName()
+                + "." + method.element().elementName()
+                + method.element().parameterArguments()
+                .stream()
+                .map(it -> it.typeName().resolvedName())
+                .collect(Collectors.joining(",", "(", ")"));
+    }
+
+    private static List<TypeName> filterTypes(List<BoundFilter> filters) {
+        return filters.stream()
+                .map(it -> it.typeInfo().typeName())
+                .toList();
+    }
+
+    private static boolean implementsInterface(TypeInfo typeInfo, TypeName interfaceType) {
+        for (TypeInfo interfaceInfo : typeInfo.interfaceTypeInfo()) {
+            if (interfaceInfo.typeName().equals(interfaceType) || implementsInterface(interfaceInfo, interfaceType)) {
+                return true;
+            }
+        }
+        return typeInfo.superTypeInfo()
+                .map(it -> implementsInterface(it, interfaceType))
+                .orElse(false);
+    }
+
+    // class level bindings apply to HTTP methods only
+    private static boolean isEntryPoint(TypedElementInfo elementInfo) {
+        return elementInfo.annotations()
+                .stream()
+                .anyMatch(it -> it.hasMetaAnnotation(OciTypes.HTTP_METHOD_ANNOTATION));
+    }
+
+    private static Set<TypeName> bindings(List<Annotation> annotations, Set<TypeName> bindings) {
+        Set<TypeName> result = new HashSet<>();
+        for (Annotation annotation : annotations) {
+            if (bindings.contains(annotation.typeName()) || annotation.hasMetaAnnotation(OciTypes.NAME_BINDING)) {
+                result.add(annotation.typeName());
+            }
+        }
+        return result;
+    }
+
+    // Priorities.USER if not annotated, same as JAX-RS
+    private static int priority(TypeInfo typeInfo) {
+        return typeInfo.findAnnotation(OciTypes.PRIORITY_ANNOTATION)
+                .or(() -> typeInfo.findAnnotation(OciTypes.JAVAX_PRIORITY_ANNOTATION))
+                .flatMap(Annotation::intValue)
+                .orElse(5000);
+    }
+
+    private static void typeConstant(Map<String, String> typeConstants, TypeName typeName) {
+        typeConstants.computeIfAbsent(erasure(typeName), k -> "TYPE_" + typeConstants.size());
+    }
+
+    // TypeName equality ignores type arguments, so the erased name is enough to match at runtime
+    private static String erasure(TypeName typeName) {
+        return TypeName.builder(typeName)
+                .typeArguments(List.of())
+                .typeParameters(List.of())
+                .build()
+                .fqName();
+    }
+
+    /**
+     * Typed injector for a filter, generated once per filter type.
+     *
+     * @param roundContext round context
+     * @param filterInfo   filter type info
+     * @return generated injector type, or empty if the filter must be injected using reflection
+     */
+    private Optional<TypeName> injector(RegistryRoundContext roundContext, TypeInfo filterInfo) {
+        return injectors.computeIfAbsent(filterInfo.typeName(), it -> generateInjector(roundContext, filterInfo));
+    }
+
+    private Optional<TypeName> generateInjector(RegistryRoundContext roundContext, TypeInfo filterInfo) {
+        List<TypedElementInfo> elements = new ArrayList<>(filterInfo.elementInfo());
+        elements.addAll(filterInfo.otherElementInfo());
+
+        List<TypedElementInfo> contextFields = elements.stream()
+                .filter(ElementInfoPredicates::isField)
+                .filter(ElementInfoPredicates.hasAnnotation(OciTypes.CONTEXT_ANNOTATION))
+                .toList();
+        List<TypedElementInfo> postConstructs = elements.stream()
+                .filter(ElementInfoPredicates::isMethod)
+                .filter(ElementInfoPredicates.hasAnnotation(OciTypes.POST_CONSTRUCT_ANNOTATION))
+                .filter(ElementInfoPredicates::isVoid)
+                .filter(ElementInfoPredicates::hasNoArgs)
+                .toList();
+
+        // fail the build rather than the first request
+        for (TypedElementInfo field : contextFields) {
+            validateContextField(filterInfo, field);
+        }
+
+        // generated code can only reach non-private members
+        for (TypedElementInfo field : contextFields) {
+            if (ElementInfoPredicates.isPrivate(field)) {
+                return Optional.empty();
+            }
+        }
+        for (TypedElementInfo method : postConstructs) {
+            if (ElementInfoPredicates.isPrivate(method) || ElementInfoPredicates.isStatic(method)) {
+                return Optional.empty();
+            }
+        }
+
+        TypeName filterType = filterInfo.typeName();
+        TypeName injectorType = TypeName.builder()
+                .packageName(filterType.packageName())
+                .className(filterType.classNameWithEnclosingNames().replace('.', '_') + "__ContextInjector")
+                .build();
+
+        ClassModel.Builder builder = ClassModel.builder()
+                .accessModifier(AccessModifier.PUBLIC)
+                .isFinal(true)
+                .type(injectorType)
+                .addConstructor(ctr -> ctr.accessModifier(AccessModifier.PRIVATE));
+        if (!contextFields.isEmpty()) {
+            builder.addImport(OciTypes.HELIDON_REQUEST_SCOPE);
+        }
+
+        builder.addMethod(inject -> {
+            inject.isStatic(true)
+                    .accessModifier(AccessModifier.PUBLIC)
+                    .returnType(TypeNames.PRIMITIVE_VOID)
+                    .name("inject")
+                    .addParameter(p -> p.type(filterType)
+                            .name("instance"))
+                    .addParameter(p -> p.type(OciTypes.HELIDON_CONTAINER_REQUEST_CONTEXT)
+                            .name("context"));
+            for (TypedElementInfo field : contextFields) {
+                inject.addContentLine("instance." + field.elementName() + " = "
+                                              + contextValue(field.typeName(), false).get() + ";");
+            }
+        });
+
+        builder.addMethod(injectScoped -> {
+            injectScoped.isStatic(true)
+                    .accessModifier(AccessModifier.PUBLIC)
+                    .returnType(TypeNames.PRIMITIVE_VOID)
+                    .name("injectScoped")
+                    .addParameter(p -> p.type(filterType)
+                            .name("instance"));
+            for (TypedElementInfo field : contextFields) {
+                injectScoped.addContentLine("instance." + field.elementName() + " = "
+                                                    + contextValue(field.typeName(), true).get() + ";");
+            }
+        });
+
+        builder.addMethod(postConstruct -> {
+            postConstruct.isStatic(true)
+                    .accessModifier(AccessModifier.PUBLIC)
+                    .returnType(TypeNames.PRIMITIVE_VOID)
+                    .name("postConstruct")
+                    .addParameter(p -> p.type(filterType)
+                            .name("instance"));
+            for (TypedElementInfo method : postConstructs) {
+                postConstruct.addContentLine("instance." + method.elementName() + "();");
+            }
+        });
+
+        roundContext.addGeneratedType(injectorType,
+                                      builder,
+                                      filterType,
+                                      filterInfo.originatingElementValue());
+        return Optional.of(injectorType);
+    }
+
+    private static void validateContextField(TypeInfo filterInfo, TypedElementInfo field) {
+        String description = "@Context field " + filterInfo.typeName().fqName() + "." + field.elementName();
+        if (ElementInfoPredicates.isStatic(field)) {
+            throw new CodegenException(description + " must not be static",
+                                       field.originatingElementValue());
+        }
+        if (contextValue(field.typeName(), false).isEmpty()) {
+            throw new CodegenException(description + " has unsupported type " + field.typeName().resolvedName()
+                                               + ", supported types are "
+                                               + OciTypes.URI_INFO.classNameWithEnclosingNames() + ", "
+                                               + OciTypes.RESOURCE_INFO.classNameWithEnclosingNames() + " and "
+                                               + OciTypes.HTTP_SERVLET_REQUEST.classNameWithEnclosingNames(),
+                                       field.originatingElementValue());
+        }
+    }
+
+    /*
+     * Expression providing the value of a @Context field, either from the request context,
+     * or a request-scoped proxy for singleton filters.
+     */
+    private static Optional<String> contextValue(TypeName fieldType, boolean scoped) {
+        String scope = OciTypes.HELIDON_REQUEST_SCOPE.className();
+        if (fieldType.equals(OciTypes.URI_INFO)) {
+            return Optional.of(scoped ? scope + ".uriInfo()" : "context.getUriInfo()");
+        }
+        if (fieldType.equals(OciTypes.RESOURCE_INFO)) {
+            return Optional.of(scoped ? scope + ".resourceInfo()" : "context.getResourceInfo()");
+        }
+        if (fieldType.equals(OciTypes.HTTP_SERVLET_REQUEST)) {
+            return Optional.of(scoped ? scope + ".httpServletRequest()" : "context.getHttpServletRequest()");
+        }
+        return Optional.empty();
+    }
+
+    private record InterceptedMethod(TypeName serviceType,
+                                     TypedElementInfo element,
+                                     List<BoundFilter> requestFilters,
+                                     List<BoundFilter> responseFilters) {
+    }
+
+    private record BoundFilter(TypeInfo typeInfo, Set<TypeName> bindings, int priority) {
+    }
+
+    private record FilterCall(TypeName filterType, TypeName injectorType, String name, boolean singleton) {
+    }
 }
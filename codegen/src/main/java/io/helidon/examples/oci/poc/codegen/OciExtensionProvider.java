@@ -39,8 +39,8 @@ public class OciExtensionProvider implements RegistryCodegenExtensionProvider {
     }
 
     @Override
-    public Set<TypeName> supportedAnnotations() {
-        return Set.of(OciTypes.AUTHORIZED_ANNOTATION);
+    public Set<TypeName> supportedMetaAnnotations() {
+        return Set.of(OciTypes.NAME_BINDING);
     }
 
     @Override
@@ -20,13 +20,37 @@ import io.helidon.common.types.TypeName;
 
 final class OciTypes {
 
-    static final TypeName AUTHORIZED_ANNOTATION = TypeName.create("io.helidon.examples.oci.poc.echo.Authorized");
+    static final TypeName NAME_BINDING = TypeName.create("javax.ws.rs.NameBinding");
+    static final TypeName CONTAINER_REQUEST_FILTER = TypeName.create("javax.ws.rs.container.ContainerRequestFilter");
+    static final TypeName CONTAINER_RESPONSE_FILTER = TypeName.create("javax.ws.rs.container.ContainerResponseFilter");
+    static final TypeName PRIORITY_ANNOTATION = TypeName.create("jakarta.annotation.Priority");
+    static final TypeName JAVAX_PRIORITY_ANNOTATION = TypeName.create("javax.annotation.Priority");
+    static final TypeName HTTP_METHOD_ANNOTATION = TypeName.create("io.helidon.http.Http.HttpMethod");
+
+    static final TypeName CONTEXT_ANNOTATION = TypeName.create("javax.ws.rs.core.Context");
+    static final TypeName POST_CONSTRUCT_ANNOTATION = TypeName.create("jakarta.annotation.PostConstruct");
+    static final TypeName URI_INFO = TypeName.create("javax.ws.rs.core.UriInfo");
+    static final TypeName RESOURCE_INFO = TypeName.create("javax.ws.rs.container.ResourceInfo");
+    static final TypeName HTTP_SERVLET_REQUEST = TypeName.create("jakarta.servlet.http.HttpServletRequest");
+
+    static final TypeName HELIDON_CONTAINER_REQUEST_CONTEXT =
+            TypeName.create("io.helidon.examples.oci.poc.jaxrs.HelidonContainerRequestContext");
+    static final TypeName HELIDON_CONTAINER_RESPONSE_CONTEXT =
+            TypeName.create("io.helidon.examples.oci.poc.jaxrs.HelidonContainerResponseContext");
+    static final TypeName HELIDON_FILTERED_RESPONSE = TypeName.create("io.helidon.examples.oci.poc.jaxrs.HelidonFilteredResponse");
+    static final TypeName HELIDON_REQUEST_SCOPE = TypeName.create("io.helidon.examples.oci.poc.jaxrs.HelidonRequestScope");
+    static final TypeName HELIDON_FILTER_LOGGING = TypeName.create("io.helidon.examples.oci.poc.jaxrs.HelidonFilterLogging");
+    static final TypeName HELIDON_FILTER_METRICS = TypeName.create("io.helidon.examples.oci.poc.jaxrs.HelidonFilterMetrics");
+    static final TypeName METRICS_TIMER = TypeName.create("io.helidon.metrics.api.Timer");
+    static final TypeName SINGLETON_FILTER_ANNOTATION = TypeName.create("io.helidon.examples.oci.poc.jaxrs.SingletonFilter");
+    static final TypeName HELIDON_CONTEXT_INJECTOR = TypeName.create("io.helidon.examples.oci.poc.jaxrs.HelidonContextInjector");
 
     static final TypeName HTTP_ENTRYPOINT_INTERCEPTOR = TypeName.create("io.helidon.webserver.http.HttpEntryPoint.Interceptor");
     static final TypeName INTERCEPTOR_CONTEXT = TypeName.create("io.helidon.service.registry.InterceptionContext");
     static final TypeName CHAIN = TypeName.create("io.helidon.webserver.http.HttpEntryPoint.Interceptor.Chain");
     static final TypeName SERVER_REQUEST = TypeName.create("io.helidon.webserver.http.ServerRequest");
     static final TypeName SERVER_RESPONSE = TypeName.create("io.helidon.webserver.http.ServerResponse");
+    static final TypeName ELEMENT_SIGNATURE = TypeName.create("io.helidon.common.types.ElementSignature");
 
     private OciTypes() {
     }
@@ -15,70 +15,66 @@
  */
 package io.helidon.examples.oci.poc.echo;
 
-import java.lang.reflect.Method;
 import java.util.List;
 
+import io.helidon.examples.oci.poc.jaxrs.AuthorizationCache;
+import io.helidon.examples.oci.poc.jaxrs.HelidonAuthorizationCache;
+import io.helidon.examples.oci.poc.jaxrs.HelidonFilterLogging;
+import io.helidon.examples.oci.poc.jaxrs.HelidonResponse;
+import io.helidon.examples.oci.poc.jaxrs.SingletonFilter;
 import io.helidon.http.HeaderNames;
 
-import jakarta.annotation.PostConstruct;
-import jakarta.servlet.http.HttpServletRequest;
+import jakarta.annotation.Priority;
+import javax.ws.rs.Priorities;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.container.ContainerRequestFilter;
 import javax.ws.rs.container.ResourceInfo;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MultivaluedMap;
-import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
 
 import static java.lang.System.Logger.Level;
 
+@Authorized
+@Priority(Priorities.AUTHORIZATION)
+@SingletonFilter
 public class AuthorizationFilter implements ContainerRequestFilter {
     private static final System.Logger LOGGER = System.getLogger(AuthorizationFilter.class.getName());
+    private static final AuthorizationCache DECISIONS = HelidonAuthorizationCache.builder().build();
 
+    // package-private, so that generated injector can assign them directly
     @Context
-    private UriInfo uriInfo;
+    UriInfo uriInfo;
 
     @Context
-    private ResourceInfo resourceInfo;
-
-    @Context
-    private HttpServletRequest servletRequest;
+    ResourceInfo resourceInfo;
 
     public AuthorizationFilter() {
     }
 
-    @PostConstruct
-    public void init() {
-        validate();         // injections available here
-    }
-
     @Override
     public void filter(ContainerRequestContext requestContext) {
         MultivaluedMap<String, String> headers = requestContext.getHeaders();
         String v = headers.getFirst(HeaderNames.AUTHORIZATION.defaultCase());
-        if ("helidon".equals(v)) {
-            LOGGER.log(Level.DEBUG, "Authorizing access '" + requestContext.getUriInfo().getPath() + "'");
+        if (v != null && DECISIONS.authorize(v, resourceInfo, AuthorizationFilter::authorize)) {
+            if (LOGGER.isLoggable(Level.DEBUG)) {
+                LOGGER.log(Level.DEBUG, HelidonFilterLogging.message("authorize",
+                                                                     "Authorizing access",
+                                                                     uriInfo.getPath()));
+            }
             headers.put("User", List.of(v));        // adds User header
         } else {
-            LOGGER.log(Level.DEBUG, "Rejecting access '" + requestContext.getUriInfo().getPath() + "'");
-            requestContext.abortWith(Response.status(Response.Status.UNAUTHORIZED).build());
+            if (LOGGER.isLoggable(Level.DEBUG)) {
+                LOGGER.log(Level.DEBUG, HelidonFilterLogging.message("reject",
+                                                                     "Rejecting access",
+                                                                     uriInfo.getPath()));
+            }
+            requestContext.abortWith(HelidonResponse.UNAUTHORIZED);
         }
     }
 
-    private void validate() {
-        if (uriInfo == null) {
-            throw new IllegalStateException("Missing UriInfo");
-        }
-        if (resourceInfo == null) {
-            throw new IllegalStateException("Missing ResourceInfo");
-        }
-        Class<?> clazz = resourceInfo.getResourceClass();
-        Method method = resourceInfo.getResourceMethod();
-        if (clazz == null || method == null) {
-            throw new IllegalStateException("Missing ResourceInfo class and method");
-        }
-        if (servletRequest == null) {
-            throw new IllegalStateException("Missing ServletRequest");
-        }
+    // simulates a call to the identity service
+    private static boolean authorize(String credential, ResourceInfo resourceInfo) {
+        return "helidon".equals(credential);
     }
 }
@@ -22,8 +22,11 @@ import java.lang.annotation.Target;
 
 import io.helidon.service.registry.Interception;
 
+import javax.ws.rs.NameBinding;
+
 @Retention(RetentionPolicy.RUNTIME)
 @Target({ElementType.TYPE, ElementType.METHOD})
 @Interception.Intercepted
+@NameBinding
 public @interface Authorized {
 }
@@ -63,6 +63,7 @@ public class EchoEndpointTest {
                 .submit("Hello World", String.class);
 
         assertThat(response.status(), is(Status.OK_200));
+        assertThat(response.headers().first(HeaderNames.CACHE_CONTROL).orElse(null), is("no-store"));
         String entity = response.entity();
         assertThat(entity, is("Hello World"));
     }
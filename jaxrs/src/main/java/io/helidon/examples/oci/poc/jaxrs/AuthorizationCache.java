@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.examples.oci.poc.jaxrs;
+
+import javax.ws.rs.container.ResourceInfo;
+
+/**
+ * Cache of authorization decisions made by a filter, keyed by credential and resource method.
+ *
+ * <p>Filters call {@link #authorize(String, ResourceInfo, Authorizer)} instead of calling the
+ * identity service directly; the authorizer is only called when no decision is cached.
+ *
+ * @see HelidonAuthorizationCache
+ */
+public interface AuthorizationCache {
+
+    /**
+     * Decide whether a credential is authorized to call a resource method.
+     *
+     * @param credential the credential, such as the value of the {@code Authorization} header
+     * @param resourceInfo the matched resource
+     * @param authorizer called to make the decision if none is cached
+     * @return whether access is allowed
+     */
+    boolean authorize(String credential, ResourceInfo resourceInfo, Authorizer authorizer);
+
+    /**
+     * Number of decisions served from the cache.
+     *
+     * @return cache hits
+     */
+    long hits();
+
+    /**
+     * Number of decisions made by an authorizer.
+     *
+     * @return cache misses
+     */
+    long misses();
+
+    /**
+     * Number of decisions currently cached, including expired ones not yet evicted.
+     *
+     * @return cache size
+     */
+    int size();
+
+    /**
+     * Makes an authorization decision, typically by calling an identity service.
+     */
+    @FunctionalInterface
+    interface Authorizer {
+
+        /**
+         * Decide whether a credential is authorized to call a resource method.
+         *
+         * @param credential the credential
+         * @param resourceInfo the matched resource
+         * @return whether access is allowed
+         */
+        boolean authorize(String credential, ResourceInfo resourceInfo);
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.examples.oci.poc.jaxrs;
+
+import java.lang.reflect.Method;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+import javax.ws.rs.container.ResourceInfo;
+
+/**
+ * Default {@link AuthorizationCache}, bounded in size, with separate time to live for allowed
+ * and denied decisions. Credentials are kept as SHA-256 digests only.
+ *
+ * <p>When the cache is full, the least recently used decision is evicted. Denied decisions are
+ * kept apart, in a region of an eighth of the size, so that a flood of invalid credentials cannot
+ * evict allowed decisions. Concurrent misses of the same credential and method call the
+ * authorizer once. Hits and misses are also counted by {@link HelidonFilterMetrics}, tagged
+ * {@code authorization}.
+ */
+public final class HelidonAuthorizationCache implements AuthorizationCache {
+
+    private final HelidonBoundedCache<Key, Boolean> decisions;
+
+    private HelidonAuthorizationCache(Builder builder) {
+        long ttlNanos = builder.ttl.toNanos();
+        long negativeTtlNanos = builder.negativeTtl.toNanos();
+        this.decisions = new HelidonBoundedCache<>("authorization",
+                                                   builder.maxSize,
+                                                   allowed -> allowed ? ttlNanos : negativeTtlNanos,
+                                                   allowed -> !allowed,
+                                                   builder.ticker);
+    }
+
+    /**
+     * Create a builder with defaults: 5 minutes time to live, 30 seconds for denied decisions
+     * and at most 10000 cached decisions.
+     *
+     * @return new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public boolean authorize(String credential, ResourceInfo resourceInfo, Authorizer authorizer) {
+        Key key = new Key(HelidonBoundedCache.digest(credential), resourceInfo.getResourceMethod());
+        return decisions.get(key, it -> authorizer.authorize(credential, resourceInfo));
+    }
+
+    @Override
+    public long hits() {
+        return decisions.hits();
+    }
+
+    @Override
+    public long misses() {
+        return decisions.misses();
+    }
+
+    @Override
+    public int size() {
+        return decisions.size();
+    }
+
+    private record Key(byte[] credential, Method method) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other
+                    && method.equals(other.method)
+                    && MessageDigest.isEqual(credential, other.credential);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Arrays.hashCode(credential) + method.hashCode();
+        }
+    }
+
+    /**
+     * Builder for {@link HelidonAuthorizationCache}.
+     */
+    public static final class Builder {
+
+        private Duration ttl = Duration.ofMinutes(5);
+        private Duration negativeTtl = Duration.ofSeconds(30);
+        private int maxSize = 10000;
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder() {
+        }
+
+        /**
+         * Time to live of allowed decisions.
+         *
+         * @param ttl time to live
+         * @return updated builder
+         */
+        public Builder ttl(Duration ttl) {
+            this.ttl = Objects.requireNonNull(ttl);
+            return this;
+        }
+
+        /**
+         * Time to live of denied decisions, usually shorter so that newly granted access
+         * is picked up quickly.
+         *
+         * @param negativeTtl time to live
+         * @return updated builder
+         */
+        public Builder negativeTtl(Duration negativeTtl) {
+            this.negativeTtl = Objects.requireNonNull(negativeTtl);
+            return this;
+        }
+
+        /**
+         * Maximal number of cached allowed decisions; up to an eighth of it (at least one) denied
+         * decisions are cached in addition.
+         *
+         * @param maxSize maximal size, must be positive
+         * @return updated builder
+         */
+        public Builder maxSize(int maxSize) {
+            if (maxSize <= 0) {
+                throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+            }
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        // time source in nanoseconds, for tests
+        Builder ticker(LongSupplier ticker) {
+            this.ticker = Objects.requireNonNull(ticker);
+            return this;
+        }
+
+        /**
+         * Build the cache.
+         *
+         * @return new cache
+         */
+        public HelidonAuthorizationCache build() {
+            return new HelidonAuthorizationCache(this);
+        }
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.examples.oci.poc.jaxrs;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+import io.helidon.metrics.api.Counter;
+
+/**
+ * Bounded cache with a time to live per value, shared by {@link HelidonAuthorizationCache} and
+ * {@link HelidonPrincipalCache}.
+ *
+ * <ul>
+ *     <li>Values are kept in least recently used order, striped into segments for large caches;
+ *     when a segment is full, its least recently used value is evicted.</li>
+ *     <li>Negative values, such as denied decisions, are kept in a separate region of an eighth
+ *     of the size, so a flood of invalid credentials only evicts other negative values.</li>
+ *     <li>Concurrent misses of the same key are collapsed into a single load.</li>
+ *     <li>Values with a time to live that is not positive are returned but not cached.</li>
+ * </ul>
+ *
+ * @param <K> key type
+ * @param <V> value type, may be {@code null}
+ */
+final class HelidonBoundedCache<K, V> {
+
+    private static final MessageDigest SHA_256;
+    // cloning the prototype is cheaper than looking up the provider on threads that are not reused
+    private static final ThreadLocal<MessageDigest> DIGESTS = ThreadLocal.withInitial(HelidonBoundedCache::sha256);
+    private static final int MAX_SEGMENTS = 16;
+
+    static {
+        try {
+            SHA_256 = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Segment<K, V>[] positive;
+    private final Segment<K, V>[] negative;
+    private final Map<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final ToLongFunction<? super V> ttlNanos;
+    private final Predicate<? super V> isNegative;
+    private final LongSupplier ticker;
+    // incremented by clear(), so that loads started before it are not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Create a cache.
+     *
+     * @param name name of the cache, used as a tag of its hit and miss counters
+     * @param maxSize maximal number of positive values
+     * @param ttlNanos time to live of a value in nanoseconds, not cached if not positive
+     * @param isNegative whether a value is kept in the negative region
+     * @param ticker time source in nanoseconds
+     */
+    HelidonBoundedCache(String name,
+                        int maxSize,
+                        ToLongFunction<? super V> ttlNanos,
+                        Predicate<? super V> isNegative,
+                        LongSupplier ticker) {
+        this.positive = segments(maxSize);
+        this.negative = segments(Math.max(1, maxSize / 8));
+        this.hitCounter = HelidonFilterMetrics.cacheHits(name);
+        this.missCounter = HelidonFilterMetrics.cacheMisses(name);
+        this.ttlNanos = ttlNanos;
+        this.isNegative = isNegative;
+        this.ticker = ticker;
+    }
+
+    /**
+     * SHA-256 digest of a secret, so that caches do not keep credentials.
+     *
+     * @param secret secret to digest
+     * @return digest
+     */
+    static byte[] digest(String secret) {
+        return DIGESTS.get().digest(secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Get a cached value, or load it. If the same key is being loaded by another thread, wait
+     * for its value instead. An exception of the loader is thrown to all waiting threads and
+     * nothing is cached.
+     *
+     * @param key key
+     * @param loader loader called on a cache miss
+     * @return cached or loaded value
+     */
+    V get(K key, Function<? super K, ? extends V> loader) {
+        long now = ticker.getAsLong();
+        Entry<V> entry = lookup(key, now);
+        if (entry != null) {
+            hit();
+            return entry.value();
+        }
+
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> pending = loading.putIfAbsent(key, future);
+        if (pending != null) {
+            hit();
+            return join(pending);
+        }
+        try {
+            // the value may have been cached between the lookup and registering the load
+            entry = lookup(key, now);
+            if (entry != null) {
+                hit();
+                future.complete(entry.value());
+                return entry.value();
+            }
+            misses.increment();
+            missCounter.increment();
+            long started = generation.get();
+            V value = loader.apply(key);
+            long ttl = ttlNanos.applyAsLong(value);
+            if (ttl > 0) {
+                Segment<K, V> segment = segment(isNegative.test(value) ? negative : positive, key);
+                synchronized (segment) {
+                    if (started == generation.get()) {
+                        segment.put(key, new Entry<>(value, now + ttl));
+                    }
+                }
+            }
+            future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, future);
+        }
+    }
+
+    /**
+     * Remove all cached values. Values being loaded are returned to their callers, but not cached.
+     */
+    void clear() {
+        generation.incrementAndGet();
+        clear(positive);
+        clear(negative);
+    }
+
+    long hits() {
+        return hits.sum();
+    }
+
+    long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Number of cached values, including expired ones not yet evicted.
+     *
+     * @return cache size
+     */
+    int size() {
+        return size(positive) + size(negative);
+    }
+
+    private void hit() {
+        hits.increment();
+        hitCounter.increment();
+    }
+
+    private Entry<V> lookup(K key, long now) {
+        Entry<V> entry = lookup(positive, key, now);
+        return entry != null ? entry : lookup(negative, key, now);
+    }
+
+    private Entry<V> lookup(Segment<K, V>[] region, K key, long now) {
+        Segment<K, V> segment = segment(region, key);
+        synchronized (segment) {
+            Entry<V> entry = segment.get(key);
+            if (entry != null && now - entry.expiresAt() >= 0) {
+                segment.remove(key);
+                return null;
+            }
+            return entry;
+        }
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static <K, V> Segment<K, V> segment(Segment<K, V>[] region, K key) {
+        int hash = key.hashCode();
+        return region[(hash ^ (hash >>> 16)) & (region.length - 1)];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> Segment<K, V>[] segments(int maxSize) {
+        // small caches use a single segment, so they are exactly least recently used
+        int count = Integer.highestOneBit(Math.clamp(maxSize / 64, 1, MAX_SEGMENTS));
+        Segment<K, V>[] segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment<>(maxSize / count + (i < maxSize % count ? 1 : 0));
+        }
+        return segments;
+    }
+
+    private static void clear(Segment<?, ?>[] region) {
+        for (Segment<?, ?> segment : region) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    private static int size(Segment<?, ?>[] region) {
+        int size = 0;
+        for (Segment<?, ?> segment : region) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return (MessageDigest) SHA_256.clone();
+        } catch (CloneNotSupportedException e) {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException nsae) {
+                throw new IllegalStateException("SHA-256 is not available", nsae);
+            }
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    // access ordered, guarded by its own monitor
+    private static final class Segment<K, V> extends LinkedHashMap<K, Entry<V>> {
+
+        private final int capacity;
+
+        private Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+            return size() > capacity;
+        }
+    }
+}
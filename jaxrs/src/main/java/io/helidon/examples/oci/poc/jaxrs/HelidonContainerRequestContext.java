@@ -15,8 +15,13 @@
  */
 package io.helidon.examples.oci.poc.jaxrs;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
 import java.net.URI;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
@@ -24,9 +29,20 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import io.helidon.http.ServerResponseHeaders;
+import io.helidon.http.Status;
 import io.helidon.webserver.http.ServerRequest;
+import io.helidon.webserver.http.ServerResponse;
 
+import jakarta.servlet.http.HttpServletRequest;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.container.ResourceInfo;
 import javax.ws.rs.core.Cookie;
@@ -42,22 +58,53 @@ import javax.ws.rs.core.UriInfo;
  *
  * <p>For post-matching filters, this context also provides access to {@link ResourceInfo}
  * which contains information about the matched resource method.
+ *
+ * <p>A filter that has to wait for a remote call can {@link #suspend(CompletionStage, Duration)
+ * suspend} the request with the pending call instead of blocking in {@code filter}. The filter
+ * chain waits for it before running the next filter, at most for the given timeout; a request
+ * that times out is aborted with {@code 503 Service Unavailable}. The request scope is bound to
+ * the thread running the filter chain; pending work that uses injected {@code @Context} proxies
+ * of {@link SingletonFilter singleton filters} must run on an {@link #executor(Executor)
+ * executor} of this context.
+ *
+ * <p>The {@linkplain #getEntityStream() entity stream} copies what a filter reads into a
+ * {@link HelidonEntityBuffer}, so that a filter can verify the body as it streams and the
+ * resource method still receives all of it through {@link #entityRequest()}.
  */
 public class HelidonContainerRequestContext implements ContainerRequestContext {
 
     /** Property key for storing ResourceInfo in the context. */
     public static final String RESOURCE_INFO_PROPERTY = "javax.ws.rs.container.ResourceInfo";
 
+    /** Default timeout of {@link #suspend(CompletionStage)}. */
+    public static final Duration DEFAULT_SUSPEND_TIMEOUT = Duration.ofSeconds(1);
+
+    /**
+     * System property with the timeout of {@link #suspend(CompletionStage)}, as an ISO-8601
+     * duration such as {@code PT2S}.
+     */
+    public static final String SUSPEND_TIMEOUT_PROPERTY = "io.helidon.examples.oci.poc.jaxrs.suspendTimeout";
+
+    private static final System.Logger LOGGER = System.getLogger(HelidonContainerRequestContext.class.getName());
+    private static final Duration SUSPEND_TIMEOUT = suspendTimeout(System.getProperty(SUSPEND_TIMEOUT_PROPERTY));
+
     private final ServerRequest request;
-    private final HelidonUriInfo uriInfo;
-    private final HelidonHttpHeaders httpHeaders;
-    private final Map<String, Object> properties = new HashMap<>();
     private final ResourceInfo resourceInfo;
+    // adapters created on first access, shared with injected @Context fields
+    private HelidonUriInfo uriInfo;
+    private HelidonMultivaluedHashMap headers;
+    private HelidonHttpHeaders httpHeaders;
+    private Map<String, Object> properties;
     private SecurityContext securityContext;
-    private boolean aborted = false;
-    private int abortStatus = 0;
-    private String abortMessage;
+    private Response abortResponse;
+    private CompletableFuture<?> suspended;
+    private long suspendTimeoutNanos;
     private InputStream entityStream;
+    private InputStream teeStream;
+    private InputStream source;
+    private HelidonEntityBuffer entityBuffer;
+    private HttpServletRequest servletRequest;
+
     /**
      * Create a request context with ResourceInfo for post-matching filters.
      *
@@ -67,10 +114,7 @@ public class HelidonContainerRequestContext implements ContainerRequestContext {
     public HelidonContainerRequestContext(ServerRequest request, ResourceInfo resourceInfo) {
         Objects.requireNonNull(resourceInfo, "resourceInfo is null");
         this.request = request;
-        this.uriInfo = new HelidonUriInfo(request);
-        this.httpHeaders = new HelidonHttpHeaders(request);
         this.resourceInfo = resourceInfo;
-        this.properties.put(RESOURCE_INFO_PROPERTY, resourceInfo);
     }
 
     /**
@@ -83,28 +127,46 @@ public class HelidonContainerRequestContext implements ContainerRequestContext {
         return resourceInfo;
     }
 
+    /**
+     * Get the servlet view of the underlying request, created on first access.
+     *
+     * @return the servlet request
+     */
+    public HttpServletRequest getHttpServletRequest() {
+        if (servletRequest == null) {
+            servletRequest = new HelidonHttpServletRequest(this);
+        }
+        return servletRequest;
+    }
+
     @Override
     public Object getProperty(String name) {
+        if (properties == null) {
+            return RESOURCE_INFO_PROPERTY.equals(name) ? resourceInfo : null;
+        }
         return properties.get(name);
     }
 
     @Override
     public Collection<String> getPropertyNames() {
-        return properties.keySet();
+        return properties().keySet();
     }
 
     @Override
     public void setProperty(String name, Object object) {
-        properties.put(name, object);
+        properties().put(name, object);
     }
 
     @Override
     public void removeProperty(String name) {
-        properties.remove(name);
+        properties().remove(name);
     }
 
     @Override
     public UriInfo getUriInfo() {
+        if (uriInfo == null) {
+            uriInfo = new HelidonUriInfo(request);
+        }
         return uriInfo;
     }
 
@@ -135,57 +197,64 @@ public class HelidonContainerRequestContext implements ContainerRequestContext {
 
     @Override
     public MultivaluedMap<String, String> getHeaders() {
-        return httpHeaders.getRequestHeaders();
+        return headers();
     }
 
     @Override
     public String getHeaderString(String name) {
-        return httpHeaders.getHeaderString(name);
+        return headers().getFirst(name);
     }
 
     @Override
     public Date getDate() {
-        return httpHeaders.getDate();
+        return httpHeaders().getDate();
     }
 
     @Override
     public Locale getLanguage() {
-        return httpHeaders.getLanguage();
+        return httpHeaders().getLanguage();
     }
 
     @Override
     public int getLength() {
-        return httpHeaders.getLength();
+        return httpHeaders().getLength();
     }
 
     @Override
     public MediaType getMediaType() {
-        return httpHeaders.getMediaType();
+        return httpHeaders().getMediaType();
     }
 
     @Override
     public List<MediaType> getAcceptableMediaTypes() {
-        return httpHeaders.getAcceptableMediaTypes();
+        return httpHeaders().getAcceptableMediaTypes();
     }
 
     @Override
     public List<Locale> getAcceptableLanguages() {
-        return httpHeaders.getAcceptableLanguages();
+        return httpHeaders().getAcceptableLanguages();
     }
 
     @Override
     public Map<String, Cookie> getCookies() {
-        return httpHeaders.getCookies();
+        return httpHeaders().getCookies();
     }
 
     @Override
     public boolean hasEntity() {
-        return getLength() > 0;
+        // also true for a chunked entity, which has no content length
+        return entityStream != null || request.content().hasEntity();
     }
 
     @Override
     public InputStream getEntityStream() {
-        return entityStream != null ? entityStream : request.content().inputStream();
+        if (entityStream == null) {
+            source = request.content().inputStream();
+            entityBuffer = new HelidonEntityBuffer();
+            teeStream = entityBuffer.tee(source);
+            entityStream = teeStream;
+        }
+        return entityStream;
     }
 
     @Override
@@ -195,6 +264,9 @@ public class HelidonContainerRequestContext implements ContainerRequestContext {
 
     @Override
     public SecurityContext getSecurityContext() {
+        if (securityContext == null) {
+            securityContext = new HelidonSecurityContext(request);
+        }
         return securityContext;
     }
 
@@ -205,26 +277,250 @@ public class HelidonContainerRequestContext implements ContainerRequestContext {
 
     @Override
     public void abortWith(Response response) {
-        this.aborted = true;
-        this.abortStatus = response.getStatus();
-        this.abortMessage = response.getEntity() != null ? response.getEntity().toString() : "";
+        this.abortResponse = Objects.requireNonNull(response, "response is null");
     }
 
     public boolean isAborted() {
-        return aborted;
+        return abortResponse != null;
+    }
+
+    /**
+     * Response a filter aborted the request with.
+     *
+     * @return the abort response, or {@code null} if the request was not aborted
+     */
+    public Response getAbortResponse() {
+        return abortResponse;
+    }
+
+    /**
+     * Send the response a filter aborted the request with: status, headers, and the entity
+     * as is. A {@code byte[]} is sent directly and an {@link InputStream} is copied to the
+     * response stream; other entities are left to the server media support.
+     *
+     * @param response the server response
+     * @throws IOException if copying an entity stream fails
+     */
+    public void sendAbortResponse(ServerResponse response) throws IOException {
+        response.status(Status.create(abortResponse.getStatus()));
+        MultivaluedMap<String, Object> metadata = abortResponse.getMetadata();
+        if (!metadata.isEmpty()) {
+            ServerResponseHeaders headers = response.headers();
+            metadata.forEach((name, values) -> HelidonContainerResponseContext.setHeader(headers, name, values));
+        }
+        Object entity = abortResponse.getEntity();
+        if (entity == null) {
+            response.send();
+        } else if (entity instanceof byte[] bytes) {
+            response.send(bytes);
+        } else if (entity instanceof InputStream in) {
+            try (in; OutputStream out = response.outputStream()) {
+                in.transferTo(out);
+            }
+        } else {
+            response.send(entity);
+        }
+    }
+
+    /**
+     * Suspend the request until the stage completes, waiting at most for the timeout configured
+     * by {@link #SUSPEND_TIMEOUT_PROPERTY}, or {@link #DEFAULT_SUSPEND_TIMEOUT} if it is not set.
+     *
+     * @param stage pending work of the current filter
+     * @see #suspend(CompletionStage, Duration)
+     */
+    public void suspend(CompletionStage<?> stage) {
+        suspend(stage, SUSPEND_TIMEOUT);
+    }
+
+    /**
+     * Executor that runs tasks with this request in scope, so that pending work of a suspended
+     * request can use the {@code @Context} proxies of singleton filters. Tasks run on virtual
+     * threads.
+     *
+     * @return executor bound to this request
+     * @see #executor(Executor)
+     */
+    public Executor executor() {
+        return executor(task -> Thread.ofVirtual().start(task));
+    }
+
+    /**
+     * Executor that runs tasks on the given executor with this request in scope. The filter
+     * chain waits while the request is suspended, so the request is not used by two threads at
+     * once as long as the tasks are part of the suspended stage.
+     *
+     * @param executor executor to run the tasks
+     * @return executor bound to this request
+     */
+    public Executor executor(Executor executor) {
+        Objects.requireNonNull(executor, "executor is null");
+        return task -> executor.execute(() -> {
+            HelidonContainerRequestContext previous = HelidonRequestScope.enter(this);
+            try {
+                task.run();
+            } finally {
+                HelidonRequestScope.exit(previous);
+            }
+        });
     }
 
-    public int getAbortStatus() {
-        return abortStatus;
+    /**
+     * Suspend the request until the stage completes. The current filter returns right away and
+     * the filter chain waits for the stage before running the next filter. The stage may abort
+     * the request through {@link #abortWith(Response)}; if it completes exceptionally, the
+     * failure is thrown from the chain. If it does not complete in time, it is cancelled and the
+     * request is aborted with {@link HelidonResponse#SERVICE_UNAVAILABLE}.
+     *
+     * @param stage pending work of the current filter
+     * @param timeout maximal time to wait for the stage
+     * @throws IllegalStateException if the request is already suspended
+     */
+    public void suspend(CompletionStage<?> stage, Duration timeout) {
+        Objects.requireNonNull(stage, "stage is null");
+        Objects.requireNonNull(timeout, "timeout is null");
+        if (suspended != null) {
+            throw new IllegalStateException("Request is already suspended");
+        }
+        this.suspended = stage.toCompletableFuture();
+        this.suspendTimeoutNanos = timeout.toNanos();
     }
 
-    public String getAbortMessage() {
-        return abortMessage;
+    /**
+     * Wait for the stage the request was suspended with, if any. Called by the filter chain after
+     * each filter.
+     *
+     * @return {@code true} if the chain may continue, {@code false} if the request was aborted
+     * @throws IOException if the suspended stage failed, or waiting for it was interrupted
+     */
+    public boolean resume() throws IOException {
+        if (suspended != null) {
+            CompletableFuture<?> stage = suspended;
+            suspended = null;
+            await(stage);
+        }
+        return abortResponse == null;
     }
 
     public ServerRequest getServerRequest() {
         return request;
     }
+
+    /**
+     * Request to pass on to the resource method. If a filter read the entity, its content is the
+     * whole entity again: the part read by filters, followed by the rest of the entity. If a
+     * filter {@linkplain #setEntityStream(InputStream) replaced} the entity stream, its content
+     * is the new stream.
+     *
+     * @return the server request, or a request replaying its entity
+     * @throws IOException if the buffered entity cannot be read
+     */
+    public ServerRequest entityRequest() throws IOException {
+        if (entityStream == null) {
+            return request;
+        }
+        if (entityStream == teeStream) {
+            return new HelidonReplayedServerRequest(request, entityBuffer.replay(source));
+        }
+        // the new stream is read from where filters left it, stop copying the entity
+        releaseEntity();
+        return new HelidonReplayedServerRequest(request, entityStream);
+    }
+
+    /**
+     * Close the entity stream a filter {@linkplain #setEntityStream(InputStream) replaced}, if
+     * any. What the resource method did not read is read first, so that a stream that verifies
+     * the entity, such as the one of {@link HelidonContentDigest}, checks all of it. Called once
+     * the resource method returns.
+     *
+     * @throws IOException if reading or closing the stream fails
+     */
+    public void closeEntity() throws IOException {
+        if (entityStream != null && entityStream != teeStream) {
+            entityStream.close();
+        }
+    }
+
+    /**
+     * Release the entity buffered for filters, if any. Called once the response is sent.
+     *
+     * @throws IOException if deleting a spilled entity fails
+     */
+    public void releaseEntity() throws IOException {
+        if (entityBuffer != null) {
+            entityBuffer.close();
+        }
+    }
+
+    static Duration suspendTimeout(String value) {
+        if (value == null) {
+            return DEFAULT_SUSPEND_TIMEOUT;
+        }
+        try {
+            Duration timeout = Duration.parse(value);
+            if (!timeout.isNegative() && !timeout.isZero()) {
+                return timeout;
+            }
+        } catch (DateTimeParseException ignored) {
+            // reported below
+        }
+        LOGGER.log(System.Logger.Level.WARNING, "Invalid " + SUSPEND_TIMEOUT_PROPERTY + " \"" + value
+                + "\", using " + DEFAULT_SUSPEND_TIMEOUT);
+        return DEFAULT_SUSPEND_TIMEOUT;
+    }
+
+    private void await(CompletableFuture<?> stage) throws IOException {
+        try {
+            stage.get(suspendTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            stage.cancel(true);
+            if (LOGGER.isLoggable(System.Logger.Level.DEBUG)) {
+                LOGGER.log(System.Logger.Level.DEBUG, "Suspended request timed out after "
+                        + Duration.ofNanos(suspendTimeoutNanos));
+            }
+            abortResponse = HelidonResponse.SERVICE_UNAVAILABLE;
+        } catch (CancellationException e) {
+            abortResponse = HelidonResponse.SERVICE_UNAVAILABLE;
+        } catch (InterruptedException e) {
+            stage.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a suspended request");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioe) {
+                throw ioe;
+            }
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IOException("Suspended request failed", cause);
+        }
+    }
+
+    private HelidonMultivaluedHashMap headers() {
+        if (headers == null) {
+            headers = new HelidonMultivaluedHashMap(request);
+        }
+        return headers;
+    }
+
+    private HelidonHttpHeaders httpHeaders() {
+        if (httpHeaders == null) {
+            httpHeaders = new HelidonHttpHeaders(headers());
+        }
+        return httpHeaders;
+    }
+
+    private Map<String, Object> properties() {
+        if (properties == null) {
+            properties = new HashMap<>();
+            properties.put(RESOURCE_INFO_PROPERTY, resourceInfo);
+        }
+        return properties;
+    }
 }
 
 
@@ -26,6 +26,13 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
+import io.helidon.http.HeaderName;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.HeaderValues;
+import io.helidon.http.ServerResponseHeaders;
+import io.helidon.http.Status;
+import io.helidon.webserver.http.ServerResponse;
+
 import javax.ws.rs.container.ContainerResponseContext;
 import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.Link;
@@ -37,20 +44,59 @@ import javax.ws.rs.core.Response;
 
 /**
  * Simple implementation of ContainerResponseContext for filter processing.
+ *
+ * <p>When created for a {@link ServerResponse}, headers are read from the server response and
+ * only copied into this context if a filter asks for the header map. Changes are written back
+ * by {@link #copyTo(ServerResponse)}; the entity is passed by reference and never buffered.
  */
 public class HelidonContainerResponseContext implements ContainerResponseContext {
 
+    private final ServerResponse response;
     private int status;
     private Object entity;
-    private final MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
-    private final MultivaluedMap<String, String> stringHeaders = new MultivaluedHashMap<>();
+    private MultivaluedMap<String, Object> headers;
     private MediaType mediaType;
 
     public HelidonContainerResponseContext(int status, Object entity) {
+        this.response = null;
         this.status = status;
         this.entity = entity;
     }
 
+    /**
+     * Create a response context backed by the headers and status of a server response.
+     *
+     * @param response the server response
+     * @param entity the entity about to be sent, may be {@code null}
+     */
+    public HelidonContainerResponseContext(ServerResponse response, Object entity) {
+        this.response = response;
+        this.status = response.status().code();
+        this.entity = entity;
+    }
+
+    /**
+     * Copy status, headers and media type onto a server response, in a single pass over
+     * the headers. Headers are only written if a filter accessed the header map.
+     *
+     * @param target the server response
+     */
+    public void copyTo(ServerResponse target) {
+        if (status != target.status().code()) {
+            target.status(Status.create(status));
+        }
+        if (headers != null) {
+            ServerResponseHeaders targetHeaders = target.headers();
+            targetHeaders.clear();
+            for (Map.Entry<String, List<Object>> entry : headers.entrySet()) {
+                setHeader(targetHeaders, entry.getKey(), entry.getValue());
+            }
+        }
+        if (mediaType != null) {
+            target.header(HeaderValues.create(HeaderNames.CONTENT_TYPE, HelidonHeaderParser.format(mediaType)));
+        }
+    }
+
     @Override
     public int getStatus() {
         return status;
@@ -95,31 +141,47 @@ public class HelidonContainerResponseContext implements ContainerResponseContext
 
     @Override
     public MultivaluedMap<String, Object> getHeaders() {
+        if (headers == null) {
+            headers = new HelidonResponseHeaders();
+            if (response != null) {
+                response.headers().forEach(header -> headers.put(header.name(), new ArrayList<>(header.allValues())));
+            }
+        }
         return headers;
     }
 
     @Override
     public MultivaluedMap<String, String> getStringHeaders() {
+        MultivaluedMap<String, String> stringHeaders = new MultivaluedHashMap<>();
+        getHeaders().forEach((name, values) -> {
+            for (Object value : values) {
+                stringHeaders.add(name, HelidonHeaderParser.headerValue(value));
+            }
+        });
         return stringHeaders;
     }
 
     @Override
     public String getHeaderString(String name) {
-        List<String> values = stringHeaders.get(name);
-        if (values == null || values.isEmpty()) {
-            List<Object> rawValues = headers.get(name);
-            if (rawValues == null || rawValues.isEmpty()) {
+        if (headers == null) {
+            if (response == null) {
                 return null;
             }
-            List<String> mapped = new ArrayList<>();
-            for (Object value : rawValues) {
-                if (value != null) {
-                    mapped.add(value.toString());
-                }
+            ServerResponseHeaders responseHeaders = response.headers();
+            HeaderName headerName = HelidonMultivaluedHashMap.headerName(name);
+            return responseHeaders.contains(headerName) ? responseHeaders.get(headerName).values() : null;
+        }
+        List<Object> rawValues = headers.get(name);
+        if (rawValues == null || rawValues.isEmpty()) {
+            return null;
+        }
+        List<String> mapped = new ArrayList<>();
+        for (Object value : rawValues) {
+            if (value != null) {
+                mapped.add(HelidonHeaderParser.headerValue(value));
             }
-            return mapped.isEmpty() ? null : String.join(",", mapped);
         }
-        return String.join(",", values);
+        return mapped.isEmpty() ? null : String.join(",", mapped);
     }
 
     @Override
@@ -144,6 +206,9 @@ public class HelidonContainerResponseContext implements ContainerResponseContext
 
     @Override
     public MediaType getMediaType() {
+        if (mediaType == null) {
+            return HelidonHeaderParser.mediaType(getHeaderString(HeaderNames.CONTENT_TYPE.defaultCase()));
+        }
         return mediaType;
     }
 
@@ -232,6 +297,24 @@ public class HelidonContainerResponseContext implements ContainerResponseContext
     public void setEntityStream(OutputStream outputStream) {
         throw new UnsupportedOperationException("Not supported yet.");
     }
-}
-
 
+    /**
+     * Set a header from JAX-RS header values, replacing any existing values.
+     *
+     * @param headers target headers
+     * @param name header name
+     * @param values header values, nothing is set if empty
+     */
+    static void setHeader(ServerResponseHeaders headers, String name, List<Object> values) {
+        if (values.size() == 1) {
+            headers.set(HeaderValues.create(HelidonMultivaluedHashMap.headerName(name),
+                                            HelidonHeaderParser.headerValue(values.getFirst())));
+        } else if (!values.isEmpty()) {
+            List<String> strings = new ArrayList<>(values.size());
+            for (Object value : values) {
+                strings.add(HelidonHeaderParser.headerValue(value));
+            }
+            headers.set(HeaderValues.create(HelidonMultivaluedHashMap.headerName(name), strings));
+        }
+    }
+}
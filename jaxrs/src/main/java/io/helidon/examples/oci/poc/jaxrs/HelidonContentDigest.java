@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.examples.oci.poc.jaxrs;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+import io.helidon.http.BadRequestException;
+
+import javax.ws.rs.container.ContainerRequestContext;
+
+/**
+ * Verification of the request entity against its digest, for request filters.
+ *
+ * <p>A filter calls {@link #verify(ContainerRequestContext)}, which replaces the entity stream
+ * with one that updates the digest as the entity is read. The entity is not buffered: the
+ * digest is compared when the entity is read to the end, and a mismatch fails the read with
+ * {@link BadRequestException}, which is sent as {@code 400 Bad Request}. Closing the stream reads
+ * what is left of the entity first, so a reader that stops at its closing token still has the
+ * entity verified; the filter chain closes the stream once the resource method returns.
+ *
+ * <p>The digest is taken from the {@value #CONTENT_DIGEST} header (RFC 9530), using
+ * {@code sha-512} or {@code sha-256}, or else from the {@value #X_CONTENT_SHA256} header used
+ * by OCI request signing, a base64 encoded SHA-256 digest.
+ */
+public final class HelidonContentDigest {
+
+    /** Digest header defined by RFC 9530. */
+    public static final String CONTENT_DIGEST = "Content-Digest";
+    /** SHA-256 digest header of OCI request signing. */
+    public static final String X_CONTENT_SHA256 = "x-content-sha256";
+
+    private static final System.Logger LOGGER = System.getLogger(HelidonContentDigest.class.getName());
+
+    private HelidonContentDigest() {
+    }
+
+    /**
+     * Verify the entity of the request against its digest header. If the request has no digest
+     * header, nothing is verified. If the header is invalid, or has no supported algorithm, the
+     * request is aborted with {@link HelidonResponse#BAD_REQUEST}.
+     *
+     * @param context request context of the calling filter
+     * @return {@code true} if the entity is verified when read, {@code false} if the request
+     *         has no digest header or was aborted
+     */
+    public static boolean verify(ContainerRequestContext context) {
+        String contentDigest = context.getHeaderString(CONTENT_DIGEST);
+        String sha256 = context.getHeaderString(X_CONTENT_SHA256);
+        if (contentDigest == null && sha256 == null) {
+            return false;
+        }
+        Expected expected = contentDigest != null
+                ? parseContentDigest(contentDigest)
+                : decode("SHA-256", sha256.trim());
+        if (expected == null) {
+            if (LOGGER.isLoggable(System.Logger.Level.DEBUG)) {
+                LOGGER.log(System.Logger.Level.DEBUG, "Invalid or unsupported digest header on "
+                        + context.getMethod() + " request");
+            }
+            context.abortWith(HelidonResponse.BAD_REQUEST);
+            return false;
+        }
+        context.setEntityStream(new VerifyingInputStream(context.getEntityStream(), expected));
+        return true;
+    }
+
+    /*
+     * Dictionary of algorithm to byte sequence, such as "sha-256=:<base64>:", parameters are
+     * ignored. The strongest supported algorithm wins.
+     */
+    private static Expected parseContentDigest(String header) {
+        Expected sha256 = null;
+        for (String member : header.split(",")) {
+            int equals = member.indexOf('=');
+            if (equals < 0) {
+                continue;
+            }
+            String algorithm = member.substring(0, equals).trim();
+            String value = member.substring(equals + 1);
+            int semicolon = value.indexOf(';');
+            if (semicolon >= 0) {
+                value = value.substring(0, semicolon);
+            }
+            value = value.trim();
+            if (value.length() < 2 || value.charAt(0) != ':' || value.charAt(value.length() - 1) != ':') {
+                return null;
+            }
+            value = value.substring(1, value.length() - 1);
+            if (algorithm.equalsIgnoreCase("sha-512")) {
+                return decode("SHA-512", value);
+            }
+            if (algorithm.equalsIgnoreCase("sha-256")) {
+                sha256 = decode("SHA-256", value);
+                if (sha256 == null) {
+                    return null;
+                }
+            }
+        }
+        return sha256;
+    }
+
+    private static Expected decode(String algorithm, String base64) {
+        try {
+            return new Expected(algorithm, Base64.getDecoder().decode(base64));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private record Expected(String algorithm, byte[] digest) {
+    }
+
+    /**
+     * Entity stream updating the digest as it is read, and comparing it at the end or on close.
+     */
+    private static final class VerifyingInputStream extends FilterInputStream {
+
+        private final MessageDigest digest;
+        private final byte[] expected;
+        private boolean verified;
+        private boolean closed;
+
+        private VerifyingInputStream(InputStream in, Expected expected) {
+            super(in);
+            this.expected = expected.digest();
+            try {
+                this.digest = MessageDigest.getInstance(expected.algorithm());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("Digest algorithm " + expected.algorithm() + " is not available", e);
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = in.read();
+            if (b < 0) {
+                verify();
+            } else {
+                digest.update((byte) b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = in.read(b, off, len);
+            if (read < 0) {
+                verify();
+            } else {
+                digest.update(b, off, read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // skipped bytes still count
+            byte[] buffer = new byte[(int) Math.min(n, 8192)];
+            long skipped = 0;
+            while (skipped < n) {
+                int read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+                if (read < 0) {
+                    break;
+                }
+                skipped += read;
+            }
+            return skipped;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                // unread bytes still count, the digest covers the whole entity
+                byte[] buffer = new byte[8192];
+                while (read(buffer, 0, buffer.length) >= 0) {
+                    // digest is updated by read
+                }
+            } finally {
+                in.close();
+            }
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public synchronized void mark(int readlimit) {
+        }
+
+        @Override
+        public synchronized void reset() throws IOException {
+            throw new IOException("mark/reset not supported");
+        }
+
+        private void verify() {
+            if (verified) {
+                return;
+            }
+            verified = true;
+            if (!MessageDigest.isEqual(expected, digest.digest())) {
+                throw new BadRequestException("Request entity does not match its digest");
+            }
+        }
+    }
+}
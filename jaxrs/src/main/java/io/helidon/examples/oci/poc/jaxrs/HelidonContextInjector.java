@@ -18,6 +18,7 @@ package io.helidon.examples.oci.poc.jaxrs;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.function.Function;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
@@ -53,30 +54,40 @@ public class HelidonContextInjector {
      * @throws RuntimeException              if reflection fails while setting a field
      */
     public static void inject(Object instance, HelidonContainerRequestContext context) {
-        Class<?> clazz = instance.getClass();
+        inject(instance, fieldType -> {
+            if (fieldType.equals(UriInfo.class)) {
+                return context.getUriInfo();
+            } else if (fieldType.equals(ResourceInfo.class)) {
+                return context.getResourceInfo();
+            } else if (fieldType.equals(HttpServletRequest.class)) {
+                return context.getHttpServletRequest();
+            }
+            return null;
+        });
+    }
 
-        // field injection of @Context
-        Field[] fields = clazz.getDeclaredFields();
-        for (Field field : fields) {
-            field.setAccessible(true);
-            Annotation annotation = field.getAnnotation(Context.class);
-            if (annotation != null) {
-                Class<?> fieldType = field.getType();
-                try {
-                    if (fieldType.equals(UriInfo.class)) {
-                        field.set(instance, new HelidonUriInfo(context.getServerRequest()));
-                    } else if (fieldType.equals(ResourceInfo.class)) {
-                        field.set(instance, context.getResourceInfo());
-                    } else if (fieldType.equals(HttpServletRequest.class)) {
-                        field.set(instance, new HelidonHttpServletRequest(context.getServerRequest()));
-                    } else {
-                        throw new UnsupportedOperationException("@Context annotation is not supported for " + fieldType);
-                    }
-                } catch (IllegalArgumentException | IllegalAccessException e) {
-                    throw new RuntimeException(e);
-                }
+    /**
+     * Performs field‑level injection of JAX‑RS {@code @Context}‑annotated members on a filter
+     * annotated with {@link SingletonFilter}. Fields are set to the request-scoped proxies from
+     * {@link HelidonRequestScope}, so this is only called once, when the filter is created.
+     *
+     * @param instance the object whose {@code @Context} fields should be populated; must not be
+     *                 {@code null}
+     * @throws NullPointerException          if {@code instance} is {@code null}
+     * @throws UnsupportedOperationException if a {@code @Context} field has an unsupported type
+     * @throws RuntimeException              if reflection fails while setting a field
+     */
+    public static void injectScoped(Object instance) {
+        inject(instance, fieldType -> {
+            if (fieldType.equals(UriInfo.class)) {
+                return HelidonRequestScope.uriInfo();
+            } else if (fieldType.equals(ResourceInfo.class)) {
+                return HelidonRequestScope.resourceInfo();
+            } else if (fieldType.equals(HttpServletRequest.class)) {
+                return HelidonRequestScope.httpServletRequest();
             }
-        }
+            return null;
+        });
     }
 
     /**
@@ -115,4 +126,27 @@ public class HelidonContextInjector {
             }
         }
     }
+
+    private static void inject(Object instance, Function<Class<?>, Object> values) {
+        Class<?> clazz = instance.getClass();
+
+        // field injection of @Context
+        Field[] fields = clazz.getDeclaredFields();
+        for (Field field : fields) {
+            field.setAccessible(true);
+            Annotation annotation = field.getAnnotation(Context.class);
+            if (annotation != null) {
+                Class<?> fieldType = field.getType();
+                Object value = values.apply(fieldType);
+                if (value == null) {
+                    throw new UnsupportedOperationException("@Context annotation is not supported for " + fieldType);
+                }
+                try {
+                    field.set(instance, value);
+                } catch (IllegalArgumentException | IllegalAccessException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,339 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.examples.oci.poc.jaxrs;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Copy of a request entity, taken while a filter reads it, so that the entity can be read again
+ * by the resource method.
+ *
+ * <p>The first {@value #DEFAULT_MEMORY_LIMIT} bytes are kept in heap chunks borrowed from a
+ * shared pool; a larger entity is spilled to a temporary file, which is memory mapped when the
+ * entity is read again. The chunks are returned to the pool and the file is deleted on
+ * {@link #close()}.
+ */
+final class HelidonEntityBuffer implements Closeable {
+
+    /** Entity size kept in memory before spilling to a file. */
+    static final int DEFAULT_MEMORY_LIMIT = 64 * 1024;
+
+    private static final int CHUNK_SIZE = 8 * 1024;
+    private static final int MAP_SEGMENT_SIZE = 64 * 1024 * 1024;
+    private static final BlockingQueue<byte[]> POOL = new ArrayBlockingQueue<>(256);
+
+    private final List<byte[]> chunks = new ArrayList<>();
+    private final int memoryLimit;
+    private FileChannel file;
+    private long size;
+    private boolean closed;
+
+    HelidonEntityBuffer() {
+        this(DEFAULT_MEMORY_LIMIT);
+    }
+
+    HelidonEntityBuffer(int memoryLimit) {
+        this.memoryLimit = memoryLimit;
+    }
+
+    /**
+     * Stream reading the source and copying everything read into this buffer.
+     *
+     * @param source entity stream
+     * @return stream to hand out instead of the source
+     */
+    InputStream tee(InputStream source) {
+        return new TeeInputStream(Objects.requireNonNull(source, "source is null"));
+    }
+
+    /**
+     * Stream reading the buffered bytes, followed by the part of the source not read yet.
+     * The tee must not be read after this call.
+     *
+     * @param source entity stream the tee was created for
+     * @return the whole entity
+     * @throws IOException if mapping the spilled entity fails
+     */
+    InputStream replay(InputStream source) throws IOException {
+        InputStream buffered = file == null ? new ChunkInputStream() : new MappedInputStream();
+        return new SequenceStream(buffered, source);
+    }
+
+    /**
+     * Number of bytes buffered so far.
+     *
+     * @return entity size read through the tee
+     */
+    long size() {
+        return size;
+    }
+
+    /**
+     * Whether the entity did not fit into memory and was spilled to a file.
+     *
+     * @return {@code true} if spilled
+     */
+    boolean spilled() {
+        return file != null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        release();
+        if (file != null) {
+            file.close();
+        }
+    }
+
+    private void write(byte[] b, int off, int len) throws IOException {
+        if (closed || len == 0) {
+            return;
+        }
+        if (file == null && size + len > memoryLimit) {
+            spill();
+        }
+        if (file != null) {
+            ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+            while (buffer.hasRemaining()) {
+                file.write(buffer);
+            }
+            size += len;
+            return;
+        }
+        while (len > 0) {
+            int used = (int) (size % CHUNK_SIZE);
+            if (used == 0) {
+                chunks.add(borrow());
+            }
+            int count = Math.min(len, CHUNK_SIZE - used);
+            System.arraycopy(b, off, chunks.getLast(), used, count);
+            size += count;
+            off += count;
+            len -= count;
+        }
+    }
+
+    private void spill() throws IOException {
+        Path path = Files.createTempFile("helidon-entity", ".tmp");
+        file = FileChannel.open(path,
+                                StandardOpenOption.READ,
+                                StandardOpenOption.WRITE,
+                                StandardOpenOption.DELETE_ON_CLOSE);
+        long remaining = size;
+        for (byte[] chunk : chunks) {
+            int count = (int) Math.min(remaining, CHUNK_SIZE);
+            ByteBuffer buffer = ByteBuffer.wrap(chunk, 0, count);
+            while (buffer.hasRemaining()) {
+                file.write(buffer);
+            }
+            remaining -= count;
+        }
+        release();
+    }
+
+    private void release() {
+        for (byte[] chunk : chunks) {
+            POOL.offer(chunk);
+        }
+        chunks.clear();
+    }
+
+    private static byte[] borrow() {
+        byte[] chunk = POOL.poll();
+        return chunk == null ? new byte[CHUNK_SIZE] : chunk;
+    }
+
+    private final class TeeInputStream extends InputStream {
+
+        private final InputStream source;
+        private final byte[] single = new byte[1];
+
+        private TeeInputStream(InputStream source) {
+            this.source = source;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = source.read();
+            if (b >= 0) {
+                single[0] = (byte) b;
+                write(single, 0, 1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = source.read(b, off, len);
+            if (read > 0) {
+                write(b, off, read);
+            }
+            return read;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return source.available();
+        }
+
+        @Override
+        public void close() {
+            // the rest of the entity is still read by the resource method
+        }
+    }
+
+    private final class ChunkInputStream extends InputStream {
+
+        private long position;
+
+        @Override
+        public int read() {
+            if (position >= size || closed) {
+                return -1;
+            }
+            byte b = chunks.get((int) (position / CHUNK_SIZE))[(int) (position % CHUNK_SIZE)];
+            position++;
+            return b & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            Objects.checkFromIndexSize(off, len, b.length);
+            if (position >= size || closed) {
+                return -1;
+            }
+            int used = (int) (position % CHUNK_SIZE);
+            int count = (int) Math.min(Math.min(len, CHUNK_SIZE - used), size - position);
+            System.arraycopy(chunks.get((int) (position / CHUNK_SIZE)), used, b, off, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, size - position);
+        }
+    }
+
+    private final class MappedInputStream extends InputStream {
+
+        private final long length = size;
+        private long position;
+        private MappedByteBuffer segment;
+
+        @Override
+        public int read() throws IOException {
+            if (!ensureSegment()) {
+                return -1;
+            }
+            position++;
+            return segment.get() & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            Objects.checkFromIndexSize(off, len, b.length);
+            if (!ensureSegment()) {
+                return -1;
+            }
+            int count = Math.min(len, segment.remaining());
+            segment.get(b, off, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, length - position);
+        }
+
+        private boolean ensureSegment() throws IOException {
+            if (position >= length || closed) {
+                return false;
+            }
+            if (segment == null || !segment.hasRemaining()) {
+                long count = Math.min(MAP_SEGMENT_SIZE, length - position);
+                segment = file.map(FileChannel.MapMode.READ_ONLY, position, count);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Buffered bytes followed by the source. Closing it does not close the source, which belongs
+     * to the server.
+     */
+    private static final class SequenceStream extends InputStream {
+
+        private final InputStream source;
+        private InputStream current;
+
+        private SequenceStream(InputStream buffered, InputStream source) {
+            this.current = buffered;
+            this.source = source;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = current.read();
+            if (b < 0 && current != source) {
+                current = source;
+                b = source.read();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            int read = current.read(b, off, len);
+            if (read < 0 && current != source) {
+                current = source;
+                read = source.read(b, off, len);
+            }
+            return read;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return current.available();
+        }
+
+        @Override
+        public void close() {
+            // the source is closed by the server when the request completes
+        }
+    }
+}
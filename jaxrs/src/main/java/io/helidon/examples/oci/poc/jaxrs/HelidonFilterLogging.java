@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.examples.oci.poc.jaxrs;
+
+/**
+ * Log messages of the generated filter interceptors and filters. Messages are plain text by
+ * default, or {@code event=<event> subject=<subject>} pairs when the system property
+ * {@value #STRUCTURED_PROPERTY} is {@code true}.
+ *
+ * <p>Generated interceptors compute their messages once, from method IDs known at build time,
+ * and log them only if the level is enabled.
+ */
+public final class HelidonFilterLogging {
+
+    /** System property that enables structured messages. */
+    public static final String STRUCTURED_PROPERTY = "io.helidon.examples.oci.poc.jaxrs.logging.structured";
+
+    private static final boolean STRUCTURED = Boolean.getBoolean(STRUCTURED_PROPERTY);
+
+    private HelidonFilterLogging() {
+    }
+
+    /**
+     * Whether messages are structured.
+     *
+     * @return {@code true} if structured messages are enabled
+     */
+    public static boolean structured() {
+        return STRUCTURED;
+    }
+
+    /**
+     * Log message for an event.
+     *
+     * @param event event name used by structured messages, such as {@code intercept}
+     * @param description description used by plain messages, such as {@code Intercepting call}
+     * @param subject what the event is about, such as a method ID or a path
+     * @return log message
+     */
+    public static String message(String event, String description, String subject) {
+        return STRUCTURED
+                ? "event=" + event + " subject=" + subject
+                : description + " '" + subject + "'";
+    }
+
+    /**
+     * Messages logged when a call is intercepted, indexed the same as the method IDs.
+     *
+     * @param methodIds IDs of the intercepted methods
+     * @return log messages
+     */
+    public static String[] interceptMessages(String... methodIds) {
+        String[] messages = new String[methodIds.length];
+        for (int i = 0; i < methodIds.length; i++) {
+            messages[i] = message("intercept", "Intercepting call", methodIds[i]);
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.examples.oci.poc.jaxrs;
+
+import io.helidon.metrics.api.Counter;
+import io.helidon.metrics.api.Meter;
+import io.helidon.metrics.api.MeterRegistry;
+import io.helidon.metrics.api.Tag;
+import io.helidon.metrics.api.Timer;
+import io.helidon.service.registry.Services;
+
+/**
+ * Meters recorded by the generated filter interceptors, registered with the {@link MeterRegistry}
+ * of the service registry. Interceptors look their meters up once, when they are created, so recording
+ * a request allocates nothing.
+ *
+ * <ul>
+ *     <li>{@value #FILTER} timer, tagged with the filter class: time spent in a filter,
+ *     including waiting for a request the filter suspended</li>
+ *     <li>{@value #INJECTION} timer, tagged with the filter class: creating a filter, injecting its
+ *     {@code @Context} fields and calling its {@code @PostConstruct} method</li>
+ *     <li>{@value #RESOURCE_METHOD} timer, tagged with the resource class and method name: the
+ *     resource method, including response filters and sending the response</li>
+ *     <li>{@value #ABORTS} counter, tagged with the status: requests aborted by a filter</li>
+ *     <li>{@value #CACHE_HITS} and {@value #CACHE_MISSES} counters, tagged with the cache name:
+ *     lookups of the authorization and principal caches</li>
+ * </ul>
+ */
+public final class HelidonFilterMetrics {
+
+    /** Name of the filter timers. */
+    public static final String FILTER = "jaxrs.filter";
+    /** Name of the filter injection timers. */
+    public static final String INJECTION = "jaxrs.filter.injection";
+    /** Name of the resource method timers. */
+    public static final String RESOURCE_METHOD = "jaxrs.resource.method";
+    /** Name of the aborted request counters. */
+    public static final String ABORTS = "jaxrs.filter.aborts";
+    /** Name of the cache hit counters. */
+    public static final String CACHE_HITS = "jaxrs.cache.hits";
+    /** Name of the cache miss counters. */
+    public static final String CACHE_MISSES = "jaxrs.cache.misses";
+
+    // statuses filters usually abort with, other statuses are looked up when counted
+    private static final Counter BAD_REQUEST = aborts(400);
+    private static final Counter UNAUTHORIZED = aborts(401);
+    private static final Counter FORBIDDEN = aborts(403);
+    private static final Counter NOT_FOUND = aborts(404);
+    private static final Counter TOO_MANY_REQUESTS = aborts(429);
+    private static final Counter SERVICE_UNAVAILABLE = aborts(503);
+
+    private HelidonFilterMetrics() {
+    }
+
+    /**
+     * Timer of a filter.
+     *
+     * @param filterClass filter class
+     * @return registered timer
+     */
+    public static Timer filterTimer(Class<?> filterClass) {
+        return getOrCreate(Timer.builder(FILTER)
+                .addTag(Tag.create("filter", filterClass.getName())));
+    }
+
+    /**
+     * Timer of creating and injecting a filter.
+     *
+     * @param filterClass filter class
+     * @return registered timer
+     */
+    public static Timer injectionTimer(Class<?> filterClass) {
+        return getOrCreate(Timer.builder(INJECTION)
+                .addTag(Tag.create("filter", filterClass.getName())));
+    }
+
+    /**
+     * Timer of a resource method. Overloaded methods share the timer.
+     *
+     * @param resourceClass resource class
+     * @param method method name
+     * @return registered timer
+     */
+    public static Timer methodTimer(Class<?> resourceClass, String method) {
+        return getOrCreate(Timer.builder(RESOURCE_METHOD)
+                .addTag(Tag.create("class", resourceClass.getName()))
+                .addTag(Tag.create("method", method)));
+    }
+
+    /**
+     * Count a request aborted by a filter.
+     *
+     * @param status status of the abort response
+     */
+    public static void aborted(int status) {
+        Counter counter = switch (status) {
+            case 400 -> BAD_REQUEST;
+            case 401 -> UNAUTHORIZED;
+            case 403 -> FORBIDDEN;
+            case 404 -> NOT_FOUND;
+            case 429 -> TOO_MANY_REQUESTS;
+            case 503 -> SERVICE_UNAVAILABLE;
+            default -> aborts(status);
+        };
+        counter.increment();
+    }
+
+    /**
+     * Counter of hits of a cache.
+     *
+     * @param cache cache name
+     * @return registered counter
+     */
+    public static Counter cacheHits(String cache) {
+        return getOrCreate(Counter.builder(CACHE_HITS)
+                .addTag(Tag.create("cache", cache)));
+    }
+
+    /**
+     * Counter of misses of a cache.
+     *
+     * @param cache cache name
+     * @return registered counter
+     */
+    public static Counter cacheMisses(String cache) {
+        return getOrCreate(Counter.builder(CACHE_MISSES)
+                .addTag(Tag.create("cache", cache)));
+    }
+
+    // meter registry provided by the service registry
+    private static <M extends Meter, B extends Meter.Builder<B, M>> M getOrCreate(B builder) {
+        return Services.get(MeterRegistry.class).getOrCreate(builder);
+    }
+
+    private static Counter aborts(int status) {
+        return getOrCreate(Counter.builder(ABORTS)
+                .addTag(Tag.create("status", String.valueOf(status))));
+    }
+}
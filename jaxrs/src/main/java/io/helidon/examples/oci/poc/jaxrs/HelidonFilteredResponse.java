@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.examples.oci.poc.jaxrs;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+import io.helidon.common.uri.UriQuery;
+import io.helidon.http.Header;
+import io.helidon.http.ServerResponseHeaders;
+import io.helidon.http.ServerResponseTrailers;
+import io.helidon.http.Status;
+import io.helidon.webserver.http.ServerResponse;
+
+/**
+ * Server response that runs JAX-RS response filters when the resource method sends its
+ * response, before anything is written. Status and headers set by the filters are copied to
+ * the delegate in a single pass, and the entity is handed over as is. Filters must not set an
+ * entity when the resource writes to {@link #outputStream()}.
+ */
+public class HelidonFilteredResponse implements ServerResponse {
+
+    private final ServerResponse delegate;
+    private final Filters filters;
+    private boolean filtered;
+
+    /**
+     * Create a filtered response.
+     *
+     * @param delegate the server response
+     * @param filters response filters to run before sending
+     */
+    public HelidonFilteredResponse(ServerResponse delegate, Filters filters) {
+        this.delegate = delegate;
+        this.filters = filters;
+    }
+
+    @Override
+    public ServerResponse status(Status status) {
+        delegate.status(status);
+        return this;
+    }
+
+    @Override
+    public Status status() {
+        return delegate.status();
+    }
+
+    @Override
+    public ServerResponse header(Header header) {
+        delegate.header(header);
+        return this;
+    }
+
+    @Override
+    public void send() {
+        sendEntity(filter(null));
+    }
+
+    @Override
+    public void send(byte[] bytes) {
+        sendEntity(filter(bytes));
+    }
+
+    @Override
+    public void send(Object entity) {
+        sendEntity(filter(entity));
+    }
+
+    @Override
+    public boolean isSent() {
+        return delegate.isSent();
+    }
+
+    @Override
+    public OutputStream outputStream() {
+        // entity is written by the caller, a replaced entity cannot be honored
+        if (filter(null) != null) {
+            throw new IllegalStateException("Response filters cannot set the entity of a streamed response");
+        }
+        return delegate.outputStream();
+    }
+
+    @Override
+    public long bytesWritten() {
+        return delegate.bytesWritten();
+    }
+
+    @Override
+    public ServerResponse beforeSend(Runnable beforeSendHandler) {
+        delegate.beforeSend(beforeSendHandler);
+        return this;
+    }
+
+    @Override
+    public ServerResponse whenSent(Runnable listener) {
+        delegate.whenSent(listener);
+        return this;
+    }
+
+    @Override
+    public ServerResponse reroute(String newPath) {
+        return delegate.reroute(newPath);
+    }
+
+    @Override
+    public ServerResponse reroute(String path, UriQuery query) {
+        return delegate.reroute(path, query);
+    }
+
+    @Override
+    public ServerResponse next() {
+        return delegate.next();
+    }
+
+    @Override
+    public ServerResponseHeaders headers() {
+        return delegate.headers();
+    }
+
+    @Override
+    public ServerResponseTrailers trailers() {
+        return delegate.trailers();
+    }
+
+    @Override
+    public ServerResponse beforeTrailers(Consumer<ServerResponseTrailers> trailersConsumer) {
+        delegate.beforeTrailers(trailersConsumer);
+        return this;
+    }
+
+    @Override
+    public void streamResult(String result) {
+        delegate.streamResult(result);
+    }
+
+    @Override
+    public void streamFilter(UnaryOperator<OutputStream> filterFunction) {
+        delegate.streamFilter(filterFunction);
+    }
+
+    private Object filter(Object entity) {
+        if (filtered) {
+            return entity;
+        }
+        filtered = true;
+        HelidonContainerResponseContext responseContext = new HelidonContainerResponseContext(delegate, entity);
+        try {
+            filters.filter(responseContext);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        responseContext.copyTo(delegate);
+        return responseContext.getEntity();
+    }
+
+    private void sendEntity(Object entity) {
+        if (entity == null) {
+            delegate.send();
+        } else if (entity instanceof byte[] bytes) {
+            delegate.send(bytes);
+        } else {
+            delegate.send(entity);
+        }
+    }
+
+    /**
+     * Response filters of a resource method, in the order they must run.
+     */
+    @FunctionalInterface
+    public interface Filters {
+
+        /**
+         * Run the response filters.
+         *
+         * @param responseContext response context
+         * @throws IOException if a filter fails
+         */
+        void filter(HelidonContainerResponseContext responseContext) throws IOException;
+    }
+}
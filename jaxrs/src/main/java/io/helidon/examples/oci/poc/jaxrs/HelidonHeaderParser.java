@@ -0,0 +1,596 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.examples.oci.poc.jaxrs;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.ws.rs.core.CacheControl;
+import javax.ws.rs.core.Cookie;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Link;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.NewCookie;
+
+/**
+ * Parser for content negotiation and other typed headers. Parsed values are immutable and cached
+ * by raw header value, as clients tend to send the same few values over and over. Caches are
+ * bounded; when a cache is full, an arbitrary value is evicted to make room, so values that
+ * become common later are still cached. {@link CacheControl} is mutable, so it is parsed on
+ * every call.
+ *
+ * <p>Also formats typed header values set through the JAX-RS API.
+ */
+final class HelidonHeaderParser {
+
+    private static final int CACHE_SIZE = 512;
+    private static final Map<String, List<MediaType>> ACCEPT_CACHE = new ConcurrentHashMap<>();
+    private static final Map<String, List<Locale>> ACCEPT_LANGUAGE_CACHE = new ConcurrentHashMap<>();
+    private static final Map<String, MediaType> CONTENT_TYPE_CACHE = new ConcurrentHashMap<>();
+    private static final Map<String, EntityTag> ENTITY_TAG_CACHE = new ConcurrentHashMap<>();
+    private static final Map<String, Cookie> COOKIE_CACHE = new ConcurrentHashMap<>();
+    private static final Map<String, NewCookie> NEW_COOKIE_CACHE = new ConcurrentHashMap<>();
+    // dates are mutable, instants are cached instead
+    private static final Map<String, Instant> DATE_CACHE = new ConcurrentHashMap<>();
+
+    private static final List<MediaType> WILDCARD = List.of(MediaType.WILDCARD_TYPE);
+    // IMF-fixdate of RFC 9110; RFC_1123_DATE_TIME does not pad the day of month, but parses both
+    private static final DateTimeFormatter IMF_FIXDATE =
+            DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US).withZone(ZoneOffset.UTC);
+
+    private HelidonHeaderParser() {
+    }
+
+    /**
+     * Parse an {@code Accept} header value. Media types are sorted by quality, more specific
+     * types first when quality is equal; types with quality zero or an invalid quality are left
+     * out.
+     *
+     * @param accept header value, may be {@code null}
+     * @return media types, wildcard if the header is missing or has no valid type
+     */
+    static List<MediaType> acceptableMediaTypes(String accept) {
+        if (accept == null || accept.isEmpty()) {
+            return WILDCARD;
+        }
+        return cached(ACCEPT_CACHE, accept, HelidonHeaderParser::parseAccept);
+    }
+
+    /**
+     * Parse an {@code Accept-Language} header value. Languages are sorted by quality;
+     * languages with quality zero or an invalid quality are left out.
+     *
+     * @param acceptLanguage header value, may be {@code null}
+     * @return locales, default locale if the header is missing or has no language
+     */
+    static List<Locale> acceptableLanguages(String acceptLanguage) {
+        if (acceptLanguage == null || acceptLanguage.isEmpty()) {
+            return List.of(Locale.getDefault());
+        }
+        return cached(ACCEPT_LANGUAGE_CACHE, acceptLanguage, HelidonHeaderParser::parseAcceptLanguage);
+    }
+
+    /**
+     * Parse a {@code Content-Type} header value.
+     *
+     * @param contentType header value, may be {@code null}
+     * @return media type, or {@code null} if the header is missing
+     * @throws IllegalArgumentException if the value is not a valid media type
+     */
+    static MediaType mediaType(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        return cached(CONTENT_TYPE_CACHE, contentType, it -> {
+            MediaType mediaType = parseMediaType(it, 0, it.length(), null);
+            if (mediaType == null) {
+                throw new IllegalArgumentException("Invalid media type: " + it);
+            }
+            return mediaType;
+        });
+    }
+
+    /**
+     * Format a header value set through the JAX-RS API, such as a response header.
+     *
+     * @param value header value
+     * @return header value as text
+     */
+    static String headerValue(Object value) {
+        if (value instanceof String string) {
+            return string;
+        }
+        if (value instanceof MediaType mediaType) {
+            return format(mediaType);
+        }
+        if (value instanceof Date date) {
+            return IMF_FIXDATE.format(date.toInstant());
+        }
+        if (value instanceof Locale locale) {
+            return locale.toLanguageTag();
+        }
+        if (value instanceof EntityTag tag) {
+            return (tag.isWeak() ? "W/\"" : "\"") + tag.getValue() + '"';
+        }
+        if (value instanceof CacheControl cacheControl) {
+            return format(cacheControl);
+        }
+        if (value instanceof NewCookie cookie) {
+            return format(cookie);
+        }
+        if (value instanceof Cookie cookie) {
+            return format(cookie);
+        }
+        if (value instanceof Link link) {
+            StringBuilder result = new StringBuilder("<").append(link.getUri()).append('>');
+            link.getParams().forEach((name, param) -> result.append("; ").append(name).append("=\"").append(param).append('"'));
+            return result.toString();
+        }
+        return String.valueOf(value);
+    }
+
+    /**
+     * Parse an HTTP date.
+     *
+     * @param value header value
+     * @return date, or {@code null} if the value is not a valid date
+     */
+    static Date date(String value) {
+        try {
+            return Date.from(cached(DATE_CACHE, value, it -> Instant.from(DateTimeFormatter.RFC_1123_DATE_TIME.parse(it))));
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parse an entity tag, quoted and optionally weak.
+     *
+     * @param value header value
+     * @return entity tag
+     */
+    static EntityTag entityTag(String value) {
+        return cached(ENTITY_TAG_CACHE, value, it -> {
+            boolean weak = it.startsWith("W/");
+            return new EntityTag(unquote(weak ? it.substring(2) : it), weak);
+        });
+    }
+
+    /**
+     * Parse a {@code Cache-Control} header value.
+     *
+     * @param value header value
+     * @return new cache control
+     */
+    static CacheControl cacheControl(String value) {
+        CacheControl cacheControl = new CacheControl();
+        // a request or default cache control allows transformations unless told otherwise
+        cacheControl.setNoTransform(false);
+        for (String directive : splitUnquoted(value, ',')) {
+            int equals = directive.indexOf('=');
+            String name = (equals < 0 ? directive : directive.substring(0, equals)).trim();
+            String argument = equals < 0 ? null : unquote(directive.substring(equals + 1).trim());
+            switch (name.toLowerCase(Locale.ROOT)) {
+                case "" -> { }
+                case "private" -> {
+                    cacheControl.setPrivate(true);
+                    fields(argument, cacheControl.getPrivateFields());
+                }
+                case "no-cache" -> {
+                    cacheControl.setNoCache(true);
+                    fields(argument, cacheControl.getNoCacheFields());
+                }
+                case "no-store" -> cacheControl.setNoStore(true);
+                case "no-transform" -> cacheControl.setNoTransform(true);
+                case "must-revalidate" -> cacheControl.setMustRevalidate(true);
+                case "proxy-revalidate" -> cacheControl.setProxyRevalidate(true);
+                case "max-age" -> cacheControl.setMaxAge(seconds(name, argument));
+                case "s-maxage" -> cacheControl.setSMaxAge(seconds(name, argument));
+                default -> cacheControl.getCacheExtension().put(name, argument);
+            }
+        }
+        return cacheControl;
+    }
+
+    /**
+     * Parse a cookie sent by a client, {@code name=value} with optional {@code $Path} and
+     * {@code $Domain} attributes.
+     *
+     * @param value header value
+     * @return cookie
+     * @throws IllegalArgumentException if the value has no cookie
+     */
+    static Cookie cookie(String value) {
+        return cached(COOKIE_CACHE, value, it -> {
+            String name = null;
+            String cookieValue = null;
+            String path = null;
+            String domain = null;
+            int version = Cookie.DEFAULT_VERSION;
+            for (String pair : splitUnquoted(it, ';')) {
+                int equals = pair.indexOf('=');
+                if (equals <= 0) {
+                    continue;
+                }
+                String attribute = pair.substring(0, equals).trim();
+                String attributeValue = unquote(pair.substring(equals + 1).trim());
+                if (attribute.equalsIgnoreCase("$Version")) {
+                    version = Integer.parseInt(attributeValue);
+                } else if (attribute.equalsIgnoreCase("$Path")) {
+                    path = attributeValue;
+                } else if (attribute.equalsIgnoreCase("$Domain")) {
+                    domain = attributeValue;
+                } else if (name == null) {
+                    name = attribute;
+                    cookieValue = attributeValue;
+                }
+            }
+            if (name == null) {
+                throw new IllegalArgumentException("Invalid cookie: " + it);
+            }
+            return new Cookie(name, cookieValue, path, domain, version);
+        });
+    }
+
+    /**
+     * Parse a {@code Set-Cookie} header value.
+     *
+     * @param value header value
+     * @return cookie
+     * @throws IllegalArgumentException if the value has no cookie
+     */
+    static NewCookie newCookie(String value) {
+        return cached(NEW_COOKIE_CACHE, value, it -> {
+            List<String> parts = splitUnquoted(it, ';');
+            int equals = parts.isEmpty() ? -1 : parts.getFirst().indexOf('=');
+            if (equals <= 0) {
+                throw new IllegalArgumentException("Invalid cookie: " + it);
+            }
+            String name = parts.getFirst().substring(0, equals).trim();
+            String cookieValue = unquote(parts.getFirst().substring(equals + 1).trim());
+            String path = null;
+            String domain = null;
+            String comment = null;
+            int maxAge = NewCookie.DEFAULT_MAX_AGE;
+            Date expiry = null;
+            boolean secure = false;
+            boolean httpOnly = false;
+            for (String part : parts.subList(1, parts.size())) {
+                int attributeEquals = part.indexOf('=');
+                String attribute = (attributeEquals < 0 ? part : part.substring(0, attributeEquals)).trim();
+                String attributeValue = attributeEquals < 0 ? null : unquote(part.substring(attributeEquals + 1).trim());
+                switch (attribute.toLowerCase(Locale.ROOT)) {
+                    case "path" -> path = attributeValue;
+                    case "domain" -> domain = attributeValue;
+                    case "comment" -> comment = attributeValue;
+                    case "max-age" -> maxAge = seconds(attribute, attributeValue);
+                    case "expires" -> expiry = attributeValue == null ? null : date(attributeValue);
+                    case "secure" -> secure = true;
+                    case "httponly" -> httpOnly = true;
+                    default -> { }
+                }
+            }
+            return new NewCookie(name, cookieValue, path, domain, Cookie.DEFAULT_VERSION,
+                                 comment, maxAge, expiry, secure, httpOnly);
+        });
+    }
+
+    /**
+     * Format a media type.
+     *
+     * @param mediaType media type
+     * @return media type as a header value
+     */
+    static String format(MediaType mediaType) {
+        StringBuilder result = new StringBuilder(mediaType.getType())
+                .append('/')
+                .append(mediaType.getSubtype());
+        mediaType.getParameters().forEach((name, value) -> result.append(';').append(name).append('=').append(value));
+        return result.toString();
+    }
+
+    static String format(CacheControl cacheControl) {
+        List<String> directives = new ArrayList<>();
+        if (cacheControl.isPrivate()) {
+            directives.add(directive("private", cacheControl.getPrivateFields()));
+        }
+        if (cacheControl.isNoCache()) {
+            directives.add(directive("no-cache", cacheControl.getNoCacheFields()));
+        }
+        if (cacheControl.isNoStore()) {
+            directives.add("no-store");
+        }
+        if (cacheControl.isNoTransform()) {
+            directives.add("no-transform");
+        }
+        if (cacheControl.isMustRevalidate()) {
+            directives.add("must-revalidate");
+        }
+        if (cacheControl.isProxyRevalidate()) {
+            directives.add("proxy-revalidate");
+        }
+        if (cacheControl.getMaxAge() >= 0) {
+            directives.add("max-age=" + cacheControl.getMaxAge());
+        }
+        if (cacheControl.getSMaxAge() >= 0) {
+            directives.add("s-maxage=" + cacheControl.getSMaxAge());
+        }
+        cacheControl.getCacheExtension()
+                .forEach((name, value) -> directives.add(value == null ? name : name + "=" + value));
+        return String.join(", ", directives);
+    }
+
+    private static String directive(String name, List<String> fields) {
+        return fields.isEmpty() ? name : name + "=\"" + String.join(", ", fields) + '"';
+    }
+
+    static String format(Cookie cookie) {
+        StringBuilder result = new StringBuilder(cookie.getName())
+                .append('=')
+                .append(cookie.getValue());
+        if (cookie.getPath() != null) {
+            result.append(";$Path=").append(cookie.getPath());
+        }
+        if (cookie.getDomain() != null) {
+            result.append(";$Domain=").append(cookie.getDomain());
+        }
+        return result.toString();
+    }
+
+    static String format(NewCookie cookie) {
+        StringBuilder result = new StringBuilder(cookie.getName())
+                .append('=')
+                .append(cookie.getValue());
+        if (cookie.getPath() != null) {
+            result.append("; Path=").append(cookie.getPath());
+        }
+        if (cookie.getDomain() != null) {
+            result.append("; Domain=").append(cookie.getDomain());
+        }
+        if (cookie.getMaxAge() >= 0) {
+            result.append("; Max-Age=").append(cookie.getMaxAge());
+        }
+        if (cookie.getExpiry() != null) {
+            result.append("; Expires=").append(headerValue(cookie.getExpiry()));
+        }
+        if (cookie.isSecure()) {
+            result.append("; Secure");
+        }
+        if (cookie.isHttpOnly()) {
+            result.append("; HttpOnly");
+        }
+        return result.toString();
+    }
+
+    // splits on the separator outside of quoted strings, parts are not trimmed
+    private static List<String> splitUnquoted(String value, char separator) {
+        List<String> parts = new ArrayList<>();
+        boolean quoted = false;
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == separator && !quoted) {
+                parts.add(value.substring(start, i));
+                start = i + 1;
+            }
+        }
+        parts.add(value.substring(start));
+        return parts;
+    }
+
+    private static void fields(String argument, List<String> fields) {
+        if (argument != null) {
+            for (String field : argument.split(",")) {
+                if (!field.isBlank()) {
+                    fields.add(field.trim());
+                }
+            }
+        }
+    }
+
+    private static int seconds(String name, String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value, e);
+        }
+    }
+
+    private static <T> T cached(Map<String, T> cache, String value, Function<String, T> parser) {
+        return cached(cache, CACHE_SIZE, value, parser);
+    }
+
+    /**
+     * Look a parsed value up in a bounded cache, parsing and adding it if missing. A full cache
+     * evicts an arbitrary entry first, so that values seen early cannot keep later ones out.
+     *
+     * @param cache concurrent cache
+     * @param maxSize maximal number of entries
+     * @param value value to parse
+     * @param parser parser of the value
+     * @param <T> type of the parsed value
+     * @return parsed value
+     */
+    static <T> T cached(Map<String, T> cache, int maxSize, String value, Function<String, T> parser) {
+        T result = cache.get(value);
+        if (result == null) {
+            result = parser.apply(value);
+            if (cache.size() >= maxSize) {
+                Iterator<String> keys = cache.keySet().iterator();
+                if (keys.hasNext()) {
+                    keys.next();
+                    keys.remove();
+                }
+            }
+            cache.putIfAbsent(value, result);
+        }
+        return result;
+    }
+
+    private static List<MediaType> parseAccept(String accept) {
+        List<Weighted<MediaType>> types = new ArrayList<>();
+        int start = 0;
+        while (start <= accept.length()) {
+            int end = accept.indexOf(',', start);
+            if (end < 0) {
+                end = accept.length();
+            }
+            float[] quality = {1.0f};
+            MediaType mediaType = parseMediaType(accept, start, end, quality);
+            if (mediaType != null && quality[0] > 0) {
+                types.add(new Weighted<>(mediaType, quality[0], specificity(mediaType)));
+            }
+            start = end + 1;
+        }
+        if (types.isEmpty()) {
+            return WILDCARD;
+        }
+        types.sort(Weighted.ORDER);
+        return types.stream().map(Weighted::value).toList();
+    }
+
+    private static List<Locale> parseAcceptLanguage(String acceptLanguage) {
+        List<Weighted<Locale>> locales = new ArrayList<>();
+        for (String part : acceptLanguage.split(",")) {
+            int semicolon = part.indexOf(';');
+            String lang = (semicolon < 0 ? part : part.substring(0, semicolon)).trim();
+            float quality = semicolon < 0 ? 1.0f : parameterQuality(part.substring(semicolon + 1));
+            if (!lang.isEmpty() && quality > 0) {
+                locales.add(new Weighted<>(Locale.forLanguageTag(lang), quality, 0));
+            }
+        }
+        if (locales.isEmpty()) {
+            return List.of(Locale.getDefault());
+        }
+        locales.sort(Weighted.ORDER);
+        return locales.stream().map(Weighted::value).toList();
+    }
+
+    // parses "type/subtype; name=value; ..." between start and end, quality goes to quality[0] if not null
+    private static MediaType parseMediaType(String value, int start, int end, float[] quality) {
+        int semicolon = value.indexOf(';', start);
+        if (semicolon < 0 || semicolon > end) {
+            semicolon = end;
+        }
+        String fullType = value.substring(start, semicolon).trim();
+        int slash = fullType.indexOf('/');
+        if (slash <= 0 || slash == fullType.length() - 1) {
+            return null;
+        }
+        String type = fullType.substring(0, slash).trim();
+        String subtype = fullType.substring(slash + 1).trim();
+
+        Map<String, String> parameters = null;
+        int paramStart = semicolon + 1;
+        while (paramStart < end) {
+            int paramEnd = value.indexOf(';', paramStart);
+            if (paramEnd < 0 || paramEnd > end) {
+                paramEnd = end;
+            }
+            int equals = value.indexOf('=', paramStart);
+            if (equals > 0 && equals < paramEnd) {
+                String name = value.substring(paramStart, equals).trim();
+                String paramValue = unquote(value.substring(equals + 1, paramEnd).trim());
+                if (quality != null && name.equalsIgnoreCase("q")) {
+                    quality[0] = qualityValue(paramValue);
+                } else if (!name.isEmpty()) {
+                    if (parameters == null) {
+                        parameters = new HashMap<>();
+                    }
+                    parameters.put(name, paramValue);
+                }
+            }
+            paramStart = paramEnd + 1;
+        }
+        return parameters == null ? new MediaType(type, subtype) : new MediaType(type, subtype, parameters);
+    }
+
+    // quality of "name=value; ..." parameters, matched by name so that "sq=1" is not taken for "q"
+    private static float parameterQuality(String parameters) {
+        int start = 0;
+        while (start < parameters.length()) {
+            int end = parameters.indexOf(';', start);
+            if (end < 0) {
+                end = parameters.length();
+            }
+            int equals = parameters.indexOf('=', start);
+            if (equals >= 0 && equals < end && parameters.substring(start, equals).trim().equalsIgnoreCase("q")) {
+                return qualityValue(parameters.substring(equals + 1, end).trim());
+            }
+            start = end + 1;
+        }
+        return 1.0f;
+    }
+
+    // qvalue of RFC 9110, 0 to 1 with at most three decimals; an invalid value is not acceptable
+    private static float qualityValue(String value) {
+        int length = value.length();
+        if (length == 0 || length > 5 || length > 1 && value.charAt(1) != '.') {
+            return 0;
+        }
+        char first = value.charAt(0);
+        if (first != '0' && first != '1') {
+            return 0;
+        }
+        for (int i = 2; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return 0;
+            }
+        }
+        float quality = Float.parseFloat(value);
+        return quality > 1 ? 0 : quality;
+    }
+
+    private static int specificity(MediaType mediaType) {
+        if (mediaType.isWildcardType()) {
+            return 0;
+        }
+        if (mediaType.isWildcardSubtype()) {
+            return 1;
+        }
+        return mediaType.getParameters().isEmpty() ? 2 : 3;
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2 && value.charAt(0) == '"' && value.charAt(value.length() - 1) == '"') {
+            return value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+
+    private record Weighted<T>(T value, float quality, int specificity) {
+
+        // higher quality first, then more specific; List.sort is stable, so header order breaks ties
+        private static final Comparator<Weighted<?>> ORDER = Comparator.<Weighted<?>>comparingDouble(Weighted::quality)
+                .reversed()
+                .thenComparing(Comparator.<Weighted<?>>comparingInt(Weighted::specificity).reversed());
+    }
+}
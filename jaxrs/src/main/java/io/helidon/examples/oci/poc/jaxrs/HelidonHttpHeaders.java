@@ -15,7 +15,6 @@
  */
 package io.helidon.examples.oci.poc.jaxrs;
 
-import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
@@ -35,10 +34,22 @@ public class HelidonHttpHeaders implements HttpHeaders {
 
     private final MultivaluedMap<String, String> headers;
 
+    // parsed once per request, reparsed only if the raw header value is replaced
+    private String acceptRaw;
+    private List<MediaType> acceptableMediaTypes;
+    private String acceptLanguageRaw;
+    private List<Locale> acceptableLanguages;
+    private String contentTypeRaw;
+    private MediaType mediaType;
+
     public HelidonHttpHeaders(ServerRequest request) {
         this.headers = new HelidonMultivaluedHashMap(request);
     }
 
+    HelidonHttpHeaders(MultivaluedMap<String, String> headers) {
+        this.headers = headers;
+    }
+
     @Override
     public List<String> getRequestHeader(String name) {
         return headers.get(name);
@@ -57,40 +68,31 @@ public class HelidonHttpHeaders implements HttpHeaders {
     @Override
     public List<MediaType> getAcceptableMediaTypes() {
         String accept = getHeaderString("Accept");
-        if (accept == null || accept.isEmpty()) {
-            return List.of(MediaType.WILDCARD_TYPE);
+        if (accept != acceptRaw || acceptableMediaTypes == null) {
+            acceptableMediaTypes = HelidonHeaderParser.acceptableMediaTypes(accept);
+            acceptRaw = accept;
         }
-        List<MediaType> types = new ArrayList<>();
-        for (String part : accept.split(",")) {
-            try {
-                types.add(MediaType.valueOf(part.trim()));
-            } catch (IllegalArgumentException e) {
-                // Skip invalid media types
-            }
-        }
-        return types.isEmpty() ? List.of(MediaType.WILDCARD_TYPE) : types;
+        return acceptableMediaTypes;
     }
 
     @Override
     public List<Locale> getAcceptableLanguages() {
-        String acceptLang = getHeaderString("Accept-Language");
-        if (acceptLang == null || acceptLang.isEmpty()) {
-            return List.of(Locale.getDefault());
-        }
-        List<Locale> locales = new ArrayList<>();
-        for (String part : acceptLang.split(",")) {
-            String lang = part.split(";")[0].trim();
-            if (!lang.isEmpty()) {
-                locales.add(Locale.forLanguageTag(lang));
-            }
+        String acceptLanguage = getHeaderString("Accept-Language");
+        if (acceptLanguage != acceptLanguageRaw || acceptableLanguages == null) {
+            acceptableLanguages = HelidonHeaderParser.acceptableLanguages(acceptLanguage);
+            acceptLanguageRaw = acceptLanguage;
         }
-        return locales.isEmpty() ? List.of(Locale.getDefault()) : locales;
+        return acceptableLanguages;
     }
 
     @Override
     public MediaType getMediaType() {
         String contentType = getHeaderString("Content-Type");
-        return contentType != null ? MediaType.valueOf(contentType) : null;
+        if (contentType != contentTypeRaw) {
+            mediaType = HelidonHeaderParser.mediaType(contentType);
+            contentTypeRaw = contentType;
+        }
+        return mediaType;
     }
 
     @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,17 +17,38 @@ package io.helidon.examples.oci.poc.jaxrs;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.UnsupportedEncodingException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
 import java.security.Principal;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
 import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
 
+import io.helidon.common.uri.UriQuery;
+import io.helidon.http.Header;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.HttpPrologue;
 import io.helidon.webserver.http.ServerRequest;
 
 import jakarta.servlet.AsyncContext;
 import jakarta.servlet.DispatcherType;
+import jakarta.servlet.ReadListener;
 import jakarta.servlet.RequestDispatcher;
 import jakarta.servlet.ServletConnection;
 import jakarta.servlet.ServletContext;
@@ -41,28 +62,47 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import jakarta.servlet.http.HttpUpgradeHandler;
 import jakarta.servlet.http.Part;
+import javax.ws.rs.core.SecurityContext;
 
+/**
+ * Servlet view of a request, as seen by a filter through its {@link HelidonContainerRequestContext}.
+ *
+ * <p>Nothing is copied up front: headers and parameters are read from {@link ServerRequest}
+ * when asked for, attributes are the properties of the request context, and security methods
+ * use its {@link SecurityContext}. The request is mapped as if to a servlet at {@code /*}, so
+ * context and servlet paths are empty and the path info is the whole path. The
+ * {@linkplain #getServletContext() servlet context} is shared by all requests; its attributes
+ * live as long as the server, and it has no init parameters or web resources.
+ *
+ * <p>Parameters are the query parameters; a form in the request body is not read, so that the
+ * entity stays available to the resource method. Sessions, dispatching, multipart and
+ * asynchronous processing are not supported.
+ */
 public class HelidonHttpServletRequest implements HttpServletRequest {
 
+    private final HelidonContainerRequestContext context;
     private final ServerRequest request;
+    private Map<String, String[]> parameterMap;
+    private String characterEncoding;
+    private ServletInputStream inputStream;
+    private BufferedReader reader;
 
-    HelidonHttpServletRequest(ServerRequest request) {
-        this.request = request;
+    HelidonHttpServletRequest(HelidonContainerRequestContext context) {
+        this.context = context;
+        this.request = context.getServerRequest();
     }
 
     @Override
     public StringBuffer getRequestURL() {
-        String uri = request.requestedUri().toUri().toString();
-        int k = uri.indexOf('?');
-        return new StringBuffer().append(k > 0 ? uri.substring(0, k) : uri);
+        return new StringBuffer(HelidonUriInfo.origin(request.requestedUri())).append(getRequestURI());
     }
 
     @Override
     public String getQueryString() {
-        return request.query().rawValue();         // not decoded
+        String query = request.query().rawValue();         // not decoded
+        return query.isEmpty() ? null : query;
     }
 
-
     @Override
     public String getLocalAddr() {
         return request.localPeer().host();
@@ -73,122 +113,166 @@ public class HelidonHttpServletRequest implements HttpServletRequest {
         return request.localPeer().port();
     }
 
-    // ------------------------------------------------------------------------
-
     @Override
     public String getAuthType() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return context.getSecurityContext().getAuthenticationScheme();
     }
 
     @Override
     public Cookie[] getCookies() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        List<String> values = request.headers().all(HeaderNames.COOKIE, List::of);
+        if (values.isEmpty()) {
+            return null;
+        }
+        List<Cookie> cookies = new ArrayList<>();
+        for (String value : values) {
+            for (String pair : value.split(";")) {
+                int equals = pair.indexOf('=');
+                if (equals <= 0) {
+                    continue;
+                }
+                String name = pair.substring(0, equals).trim();
+                String cookieValue = pair.substring(equals + 1).trim();
+                if (cookieValue.length() > 1 && cookieValue.startsWith("\"") && cookieValue.endsWith("\"")) {
+                    cookieValue = cookieValue.substring(1, cookieValue.length() - 1);
+                }
+                try {
+                    cookies.add(new Cookie(name, cookieValue));
+                } catch (IllegalArgumentException e) {
+                    // not a valid cookie name, skip it
+                }
+            }
+        }
+        return cookies.isEmpty() ? null : cookies.toArray(new Cookie[0]);
     }
 
     @Override
     public long getDateHeader(String s) {
-        throw new UnsupportedOperationException("Not supported yet.");
+        String value = getHeader(s);
+        if (value == null) {
+            return -1;
+        }
+        Date date = HelidonHeaderParser.date(value);
+        if (date == null) {
+            throw new IllegalArgumentException("Header " + s + " is not a date: " + value);
+        }
+        return date.getTime();
     }
 
     @Override
     public String getHeader(String s) {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return request.headers().first(HeaderNames.create(s)).orElse(null);
     }
 
     @Override
     public Enumeration<String> getHeaders(String s) {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return Collections.enumeration(request.headers().all(HeaderNames.create(s), List::of));
     }
 
     @Override
     public Enumeration<String> getHeaderNames() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        Iterator<Header> headers = request.headers().iterator();
+        return new Enumeration<>() {
+            @Override
+            public boolean hasMoreElements() {
+                return headers.hasNext();
+            }
+
+            @Override
+            public String nextElement() {
+                return headers.next().name();
+            }
+        };
     }
 
     @Override
     public int getIntHeader(String s) {
-        throw new UnsupportedOperationException("Not supported yet.");
+        String value = getHeader(s);
+        return value == null ? -1 : Integer.parseInt(value.trim());
     }
 
     @Override
     public String getMethod() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return request.prologue().method().text();
     }
 
     @Override
     public String getPathInfo() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return request.prologue().uriPath().path();
     }
 
     @Override
     public String getPathTranslated() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return null;
     }
 
     @Override
     public String getContextPath() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return "";
     }
 
     @Override
     public String getRemoteUser() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        Principal principal = getUserPrincipal();
+        return principal == null ? null : principal.getName();
     }
 
     @Override
     public boolean isUserInRole(String s) {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return context.getSecurityContext().isUserInRole(s);
     }
 
     @Override
     public Principal getUserPrincipal() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return context.getSecurityContext().getUserPrincipal();
     }
 
     @Override
     public String getRequestedSessionId() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return null;
     }
 
     @Override
     public String getRequestURI() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return request.prologue().uriPath().rawPath();
     }
 
-
     @Override
     public String getServletPath() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return "";
     }
 
     @Override
     public HttpSession getSession(boolean b) {
-        throw new UnsupportedOperationException("Not supported yet.");
+        if (b) {
+            throw new UnsupportedOperationException("Not supported yet.");
+        }
+        return null;
     }
 
     @Override
     public HttpSession getSession() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return getSession(true);
     }
 
     @Override
     public String changeSessionId() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        throw new IllegalStateException("Request has no session");
     }
 
     @Override
     public boolean isRequestedSessionIdValid() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return false;
     }
 
     @Override
     public boolean isRequestedSessionIdFromCookie() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return false;
     }
 
     @Override
     public boolean isRequestedSessionIdFromURL() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return false;
     }
 
     @Override
@@ -223,122 +307,163 @@ public class HelidonHttpServletRequest implements HttpServletRequest {
 
     @Override
     public Object getAttribute(String s) {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return context.getProperty(s);
     }
 
     @Override
     public Enumeration<String> getAttributeNames() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return Collections.enumeration(context.getPropertyNames());
     }
 
     @Override
     public String getCharacterEncoding() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        if (characterEncoding == null) {
+            characterEncoding = request.headers()
+                    .contentType()
+                    .flatMap(it -> it.charset())
+                    .orElse(null);
+        }
+        return characterEncoding;
     }
 
     @Override
     public void setCharacterEncoding(String s) throws UnsupportedEncodingException {
-        throw new UnsupportedOperationException("Not supported yet.");
+        if (reader != null) {
+            return;
+        }
+        try {
+            if (!Charset.isSupported(s)) {
+                throw new UnsupportedEncodingException(s);
+            }
+        } catch (IllegalCharsetNameException e) {
+            throw new UnsupportedEncodingException(s);
+        }
+        this.characterEncoding = s;
     }
 
     @Override
     public int getContentLength() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        long length = getContentLengthLong();
+        return length > Integer.MAX_VALUE ? -1 : (int) length;
     }
 
     @Override
     public long getContentLengthLong() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        OptionalLong length = request.headers().contentLength();
+        return length.isPresent() ? length.getAsLong() : -1;
     }
 
     @Override
     public String getContentType() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return request.headers().first(HeaderNames.CONTENT_TYPE).orElse(null);
     }
 
     @Override
     public ServletInputStream getInputStream() throws IOException {
-        throw new UnsupportedOperationException("Not supported yet.");
+        if (reader != null) {
+            throw new IllegalStateException("getReader() has already been called");
+        }
+        return entityStream();
     }
 
     @Override
     public String getParameter(String s) {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return request.query().first(s).orElse(null);
     }
 
     @Override
     public Enumeration<String> getParameterNames() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return Collections.enumeration(request.query().names());
     }
 
     @Override
     public String[] getParameterValues(String s) {
-        throw new UnsupportedOperationException("Not supported yet.");
+        List<String> values = request.query().all(s, List::of);
+        return values.isEmpty() ? null : values.toArray(new String[0]);
     }
 
     @Override
     public Map<String, String[]> getParameterMap() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        if (parameterMap == null) {
+            parameterMap = new ParameterMap(request.query());
+        }
+        return parameterMap;
     }
 
     @Override
     public String getProtocol() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return request.prologue().rawProtocol();
     }
 
     @Override
     public String getScheme() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return request.requestedUri().scheme();
     }
 
     @Override
     public String getServerName() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return request.requestedUri().host();
     }
 
     @Override
     public int getServerPort() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return request.requestedUri().port();
     }
 
     @Override
     public BufferedReader getReader() throws IOException {
-        throw new UnsupportedOperationException("Not supported yet.");
+        if (reader == null) {
+            if (inputStream != null) {
+                throw new IllegalStateException("getInputStream() has already been called");
+            }
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding == null ? StandardCharsets.ISO_8859_1 : Charset.forName(encoding);
+            reader = new BufferedReader(new InputStreamReader(entityStream(), charset));
+        }
+        return reader;
     }
 
     @Override
     public String getRemoteAddr() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        SocketAddress address = request.remotePeer().address();
+        if (address instanceof InetSocketAddress inet && inet.getAddress() != null) {
+            return inet.getAddress().getHostAddress();
+        }
+        return request.remotePeer().host();
     }
 
     @Override
     public String getRemoteHost() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return request.remotePeer().host();
     }
 
     @Override
     public void setAttribute(String s, Object o) {
-        throw new UnsupportedOperationException("Not supported yet.");
+        if (o == null) {
+            context.removeProperty(s);
+        } else {
+            context.setProperty(s, o);
+        }
     }
 
     @Override
     public void removeAttribute(String s) {
-        throw new UnsupportedOperationException("Not supported yet.");
+        context.removeProperty(s);
     }
 
     @Override
     public Locale getLocale() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return getLanguages().getFirst();
     }
 
     @Override
     public Enumeration<Locale> getLocales() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return Collections.enumeration(getLanguages());
     }
 
     @Override
     public boolean isSecure() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return request.isSecure();
     }
 
     @Override
@@ -348,61 +473,213 @@ public class HelidonHttpServletRequest implements HttpServletRequest {
 
     @Override
     public int getRemotePort() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return request.remotePeer().port();
     }
 
     @Override
     public String getLocalName() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return request.localPeer().host();
     }
 
     @Override
     public ServletContext getServletContext() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return HelidonServletContext.INSTANCE;
     }
 
     @Override
     public AsyncContext startAsync() throws IllegalStateException {
-        throw new UnsupportedOperationException("Not supported yet.");
+        throw new IllegalStateException("Asynchronous processing is not supported");
     }
 
     @Override
     public AsyncContext startAsync(ServletRequest servletRequest, ServletResponse servletResponse) throws IllegalStateException {
-        throw new UnsupportedOperationException("Not supported yet.");
+        throw new IllegalStateException("Asynchronous processing is not supported");
     }
 
     @Override
     public boolean isAsyncStarted() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return false;
     }
 
     @Override
     public boolean isAsyncSupported() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return false;
     }
 
     @Override
     public AsyncContext getAsyncContext() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        throw new IllegalStateException("Asynchronous processing is not supported");
     }
 
     @Override
     public DispatcherType getDispatcherType() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return DispatcherType.REQUEST;
     }
 
     @Override
     public String getRequestId() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return request.serverSocketId() + "/" + request.socketId() + "/" + request.id();
     }
 
     @Override
     public String getProtocolRequestId() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return "";
     }
 
     @Override
     public ServletConnection getServletConnection() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return new Connection(request.socketId(), protocolName(), request.isSecure());
+    }
+
+    // connection protocol names of the servlet specification, such as "http/1.1" or "h2"
+    private String protocolName() {
+        HttpPrologue prologue = request.prologue();
+        return switch (prologue.protocolVersion()) {
+            case "2", "2.0" -> request.isSecure() ? "h2" : "h2c";
+            case "3", "3.0" -> "h3";
+            default -> prologue.protocol().toLowerCase(Locale.ROOT) + "/" + prologue.protocolVersion();
+        };
+    }
+
+    private ServletInputStream entityStream() {
+        if (inputStream == null) {
+            inputStream = new EntityInputStream(context.getEntityStream());
+        }
+        return inputStream;
+    }
+
+    private List<Locale> getLanguages() {
+        return HelidonHeaderParser.acceptableLanguages(request.headers()
+                                                               .first(HeaderNames.ACCEPT_LANGUAGE)
+                                                               .orElse(null));
+    }
+
+    /**
+     * Blocking servlet stream reading the entity as it arrives, without buffering.
+     */
+    private record Connection(String getConnectionId, String getProtocol, boolean isSecure)
+            implements ServletConnection {
+
+        @Override
+        public String getProtocolConnectionId() {
+            // only defined for HTTP/3
+            return "";
+        }
+    }
+
+    private static final class EntityInputStream extends ServletInputStream {
+
+        private final InputStream delegate;
+        private boolean finished;
+
+        private EntityInputStream(InputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            if (b < 0) {
+                finished = true;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = delegate.read(b, off, len);
+            if (read < 0) {
+                finished = true;
+            }
+            return read;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return delegate.available();
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            return delegate.skip(n);
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            throw new IllegalStateException("Asynchronous processing is not supported");
+        }
+    }
+
+    /**
+     * Read-only view of query parameters, values are copied to arrays when accessed.
+     */
+    private static final class ParameterMap extends AbstractMap<String, String[]> {
+
+        private final UriQuery query;
+
+        private ParameterMap(UriQuery query) {
+            this.query = query;
+        }
+
+        @Override
+        public String[] get(Object key) {
+            if (!(key instanceof String name)) {
+                return null;
+            }
+            List<String> values = query.all(name, List::of);
+            return values.isEmpty() ? null : values.toArray(new String[0]);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof String name && query.contains(name);
+        }
+
+        @Override
+        public int size() {
+            return query.names().size();
+        }
+
+        @Override
+        public Set<Entry<String, String[]>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, String[]>> iterator() {
+                    Iterator<String> names = query.names().iterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return names.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, String[]> next() {
+                            String name = names.next();
+                            return new SimpleImmutableEntry<>(name, query.all(name).toArray(new String[0]));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return query.names().size();
+                }
+            };
+        }
     }
 }
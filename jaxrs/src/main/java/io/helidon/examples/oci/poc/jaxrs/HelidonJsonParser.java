@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.examples.oci.poc.jaxrs;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal JSON parser for JWT claims and JWK sets. Objects are parsed to {@link Map}, arrays to
+ * {@link List}, numbers to {@link Long} or {@link BigDecimal}, and the rest to {@link String},
+ * {@link Boolean} or {@code null}.
+ */
+final class HelidonJsonParser {
+
+    // far beyond JWT claims and key sets, low enough to fail before the stack overflows
+    private static final int MAX_DEPTH = 32;
+
+    private final String json;
+    private int position;
+    private int depth;
+
+    private HelidonJsonParser(String json) {
+        this.json = json;
+    }
+
+    /**
+     * Parse a JSON object.
+     *
+     * @param json JSON text
+     * @return parsed object
+     * @throws IllegalArgumentException if the text is not a valid JSON object
+     */
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> parseObject(String json) {
+        HelidonJsonParser parser = new HelidonJsonParser(json);
+        Object value = parser.value();
+        parser.skipWhitespace();
+        if (parser.position != json.length() || !(value instanceof Map)) {
+            throw new IllegalArgumentException("Not a JSON object");
+        }
+        return (Map<String, Object>) value;
+    }
+
+    private Object value() {
+        skipWhitespace();
+        char c = peek();
+        return switch (c) {
+            case '{', '[' -> nested(c);
+            case '"' -> string();
+            case 't' -> literal("true", Boolean.TRUE);
+            case 'f' -> literal("false", Boolean.FALSE);
+            case 'n' -> literal("null", null);
+            default -> number();
+        };
+    }
+
+    private Object nested(char c) {
+        if (++depth > MAX_DEPTH) {
+            throw error("Too deeply nested");
+        }
+        Object value = c == '{' ? object() : array();
+        depth--;
+        return value;
+    }
+
+    private Map<String, Object> object() {
+        position++;
+        Map<String, Object> object = new LinkedHashMap<>();
+        skipWhitespace();
+        if (peek() == '}') {
+            position++;
+            return object;
+        }
+        while (true) {
+            skipWhitespace();
+            if (peek() != '"') {
+                throw error("Expected a member name");
+            }
+            String name = string();
+            skipWhitespace();
+            expect(':');
+            object.put(name, value());
+            skipWhitespace();
+            char c = next();
+            if (c == '}') {
+                return object;
+            }
+            if (c != ',') {
+                throw error("Expected ',' or '}'");
+            }
+        }
+    }
+
+    private List<Object> array() {
+        position++;
+        List<Object> array = new ArrayList<>();
+        skipWhitespace();
+        if (peek() == ']') {
+            position++;
+            return array;
+        }
+        while (true) {
+            array.add(value());
+            skipWhitespace();
+            char c = next();
+            if (c == ']') {
+                return array;
+            }
+            if (c != ',') {
+                throw error("Expected ',' or ']'");
+            }
+        }
+    }
+
+    private String string() {
+        position++;
+        StringBuilder value = null;
+        int start = position;
+        while (true) {
+            char c = next();
+            if (c == '"') {
+                return value == null
+                        ? json.substring(start, position - 1)
+                        : value.append(json, start, position - 1).toString();
+            }
+            if (c == '\\') {
+                if (value == null) {
+                    value = new StringBuilder();
+                }
+                value.append(json, start, position - 1);
+                value.append(escaped());
+                start = position;
+            } else if (c < 0x20) {
+                throw error("Control character in string");
+            }
+        }
+    }
+
+    private char escaped() {
+        char c = next();
+        return switch (c) {
+            case '"', '\\', '/' -> c;
+            case 'b' -> '\b';
+            case 'f' -> '\f';
+            case 'n' -> '\n';
+            case 'r' -> '\r';
+            case 't' -> '\t';
+            case 'u' -> {
+                if (position + 4 > json.length()) {
+                    throw error("Invalid unicode escape");
+                }
+                try {
+                    char unicode = (char) Integer.parseInt(json, position, position + 4, 16);
+                    position += 4;
+                    yield unicode;
+                } catch (NumberFormatException e) {
+                    throw error("Invalid unicode escape");
+                }
+            }
+            default -> throw error("Invalid escape");
+        };
+    }
+
+    private Object number() {
+        int start = position;
+        while (position < json.length() && "+-0123456789.eE".indexOf(json.charAt(position)) >= 0) {
+            position++;
+        }
+        if (start == position) {
+            throw error("Unexpected character");
+        }
+        String number = json.substring(start, position);
+        try {
+            BigDecimal value = new BigDecimal(number);
+            if (value.scale() <= 0) {
+                try {
+                    return value.longValueExact();
+                } catch (ArithmeticException e) {
+                    return value;
+                }
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            throw error("Invalid number");
+        }
+    }
+
+    private Object literal(String literal, Object value) {
+        if (!json.startsWith(literal, position)) {
+            throw error("Unexpected character");
+        }
+        position += literal.length();
+        return value;
+    }
+
+    private void expect(char expected) {
+        if (next() != expected) {
+            throw error("Expected '" + expected + "'");
+        }
+    }
+
+    private char peek() {
+        if (position >= json.length()) {
+            throw error("Unexpected end");
+        }
+        return json.charAt(position);
+    }
+
+    private char next() {
+        char c = peek();
+        position++;
+        return c;
+    }
+
+    private void skipWhitespace() {
+        while (position < json.length() && Character.isWhitespace(json.charAt(position))) {
+            position++;
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at " + position);
+    }
+}
@@ -0,0 +1,609 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.examples.oci.poc.jaxrs;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.Principal;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link PrincipalResolver} that validates JWT bearer tokens locally, against keys of a JSON Web
+ * Key Set, instead of calling an identity service. The signature (RSA {@code RS256/384/512} or
+ * ECDSA {@code ES256/384/512}), expiry and not-before time are verified, and the issuer and
+ * audience if configured. The principal name is the {@code sub} claim.
+ *
+ * <p>The key set is loaded from a file or an HTTP endpoint when the validator is built, and
+ * reloaded in the background; if a reload fails, the previous keys are kept. Loading from an
+ * endpoint is bounded by a connect and a request timeout. A token signed with an unknown key ID
+ * also triggers a reload, at most once per 30 seconds; while a reload is in progress, other
+ * requests do not wait for it and use the current keys. Verified tokens are
+ * cached in a {@link HelidonPrincipalCache}, so a repeated token skips signature verification;
+ * its expiry is still checked on each use. The cache is cleared when reloaded keys differ, and
+ * rejections that may change with time or with the key set (unknown key, not yet valid) are
+ * not cached.
+ */
+public final class HelidonJwtValidator implements PrincipalResolver, AutoCloseable {
+
+    /**
+     * System property with the location of the key set, a file path or an {@code http(s)} URI.
+     * If set, {@link HelidonSecurityContext} validates bearer tokens with a validator using it.
+     */
+    public static final String JWKS_PROPERTY = "io.helidon.examples.oci.poc.jaxrs.jwks";
+
+    private static final System.Logger LOGGER = System.getLogger(HelidonJwtValidator.class.getName());
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final int UNKNOWN_KEY_REFRESH_SECONDS = 30;
+
+    private final Path jwksFile;
+    private final URI jwksUri;
+    private final Duration leeway;
+    private final String issuer;
+    private final String audience;
+    private final Clock clock;
+    private final HttpClient client;
+    private final Duration requestTimeout;
+    private final HelidonPrincipalCache verified;
+    private final ScheduledExecutorService refresher;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    // replaced as a whole on refresh
+    private volatile Keys keys;
+    // last attempt to load the keys, guarded by refreshLock
+    private Instant lastRefresh;
+
+    private HelidonJwtValidator(Builder builder) {
+        this.jwksFile = builder.jwksFile;
+        this.jwksUri = builder.jwksUri;
+        this.leeway = builder.leeway;
+        this.issuer = builder.issuer;
+        this.audience = builder.audience;
+        this.clock = builder.clock;
+        this.client = jwksUri == null
+                ? null
+                : HttpClient.newBuilder().connectTimeout(builder.connectTimeout).build();
+        this.requestTimeout = builder.requestTimeout;
+        this.verified = HelidonPrincipalCache.builder(this::verify)
+                .ttl(builder.cacheTtl)
+                .maxSize(builder.cacheMaxSize)
+                .build();
+        try {
+            this.keys = load();
+            this.lastRefresh = clock.instant();
+        } catch (IOException | RuntimeException e) {
+            if (client != null) {
+                client.close();
+            }
+            throw new IllegalStateException("Failed to load JSON Web Key Set from " + location(), e);
+        }
+        if (builder.refreshInterval.isZero()) {
+            this.refresher = null;
+        } else {
+            this.refresher = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofVirtual().name("jwks-refresh").factory());
+            long interval = builder.refreshInterval.toMillis();
+            refresher.scheduleWithFixedDelay(this::refreshQuietly, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Create a builder. Either {@link Builder#jwks(Path)} or {@link Builder#jwks(URI)} is required.
+     *
+     * @return new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Resolve the principal of a token.
+     *
+     * @param token the bearer token, without the scheme
+     * @return a {@link JwtPrincipal}, or {@code null} if the token is not valid or has expired
+     */
+    @Override
+    public Principal resolve(String token) {
+        Principal principal;
+        try {
+            principal = verified.resolve(token);
+        } catch (TransientRejection e) {
+            return null;
+        }
+        if (principal instanceof JwtPrincipal jwt && jwt.isExpired(clock.instant().minus(leeway))) {
+            return null;
+        }
+        return principal;
+    }
+
+    /**
+     * Reload the key set now. If the keys have changed, cached tokens are verified again.
+     *
+     * @throws IOException if the key set cannot be read
+     */
+    public void refresh() throws IOException {
+        refreshLock.lock();
+        try {
+            lastRefresh = clock.instant();
+            Keys loaded = load();
+            if (!loaded.equals(keys)) {
+                keys = loaded;
+                verified.clear();
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Stop refreshing the key set in the background.
+     */
+    @Override
+    public void close() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Failed to refresh JSON Web Key Set from " + location()
+                    + ", keeping previous keys", e);
+        }
+    }
+
+    private Principal verify(String token) {
+        try {
+            int first = token.indexOf('.');
+            int second = token.indexOf('.', first + 1);
+            if (first < 0 || second < 0 || token.indexOf('.', second + 1) >= 0) {
+                return invalid("not a signed JWT");
+            }
+            Map<String, Object> header = json(token.substring(0, first));
+            String algorithm = header.get("alg") instanceof String alg ? alg : null;
+            String kid = header.get("kid") instanceof String it ? it : null;
+            PublicKey key = keys.find(kid);
+            if (key == null && kid != null) {
+                key = refreshForUnknownKey(kid);
+            }
+            if (key == null) {
+                throw transientRejection("unknown key");
+            }
+            Signature signature = signature(algorithm, key);
+            if (signature == null) {
+                return invalid("algorithm " + algorithm + " does not match the key");
+            }
+            signature.initVerify(key);
+            signature.update(token.substring(0, second).getBytes(StandardCharsets.US_ASCII));
+            if (!signature.verify(DECODER.decode(token.substring(second + 1)))) {
+                return invalid("bad signature");
+            }
+            return claims(json(token.substring(first + 1, second)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            return invalid(e.getMessage());
+        }
+    }
+
+    private Principal claims(Map<String, Object> claims) {
+        Instant now = clock.instant();
+        if (!(claims.get("exp") instanceof Long exp)) {
+            return invalid("missing expiry");
+        }
+        JwtPrincipal principal = new JwtPrincipal(claims.get("sub") instanceof String sub ? sub : null,
+                                                  Instant.ofEpochSecond(exp),
+                                                  claims);
+        if (principal.getName() == null) {
+            return invalid("missing subject");
+        }
+        if (principal.isExpired(now.minus(leeway))) {
+            return invalid("expired");
+        }
+        if (claims.get("nbf") instanceof Long nbf && Instant.ofEpochSecond(nbf).isAfter(now.plus(leeway))) {
+            throw transientRejection("not yet valid");
+        }
+        if (issuer != null && !issuer.equals(claims.get("iss"))) {
+            return invalid("unexpected issuer");
+        }
+        if (audience != null) {
+            Object aud = claims.get("aud");
+            if (!(audience.equals(aud) || aud instanceof List<?> list && list.contains(audience))) {
+                return invalid("unexpected audience");
+            }
+        }
+        return principal;
+    }
+
+    private static Principal invalid(String reason) {
+        if (LOGGER.isLoggable(System.Logger.Level.DEBUG)) {
+            LOGGER.log(System.Logger.Level.DEBUG, "Rejecting bearer token: " + reason);
+        }
+        return null;
+    }
+
+    // the rejection may not hold later, so it is thrown past the cache instead of cached
+    private static TransientRejection transientRejection(String reason) {
+        invalid(reason);
+        return new TransientRejection();
+    }
+
+    // reload the keys unless reloaded recently, a new key may have been published before a token signed with it;
+    // a reload in progress is not waited for
+    private PublicKey refreshForUnknownKey(String kid) {
+        if (!refreshLock.tryLock()) {
+            return keys.find(kid);
+        }
+        try {
+            if (clock.instant().isAfter(lastRefresh.plusSeconds(UNKNOWN_KEY_REFRESH_SECONDS))) {
+                refreshQuietly();
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+        return keys.find(kid);
+    }
+
+    // JWS algorithm to JCA signature, null if it does not fit the key type
+    private static Signature signature(String algorithm, PublicKey key) throws GeneralSecurityException {
+        if (algorithm == null || algorithm.length() != 5) {
+            return null;
+        }
+        String digest = switch (algorithm.substring(2)) {
+            case "256" -> "SHA256";
+            case "384" -> "SHA384";
+            case "512" -> "SHA512";
+            default -> null;
+        };
+        if (digest == null) {
+            return null;
+        }
+        if (algorithm.startsWith("RS") && key instanceof RSAPublicKey) {
+            return Signature.getInstance(digest + "withRSA");
+        }
+        if (algorithm.startsWith("ES") && key instanceof ECPublicKey) {
+            // JWS uses the raw R || S signature format
+            return Signature.getInstance(digest + "withECDSAinP1363Format");
+        }
+        return null;
+    }
+
+    private Keys load() throws IOException {
+        String json;
+        if (jwksFile != null) {
+            json = Files.readString(jwksFile);
+        } else {
+            HttpRequest request = HttpRequest.newBuilder(jwksUri)
+                    .timeout(requestTimeout)
+                    .GET()
+                    .build();
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() != 200) {
+                    throw new IOException("Unexpected status " + response.statusCode());
+                }
+                json = response.body();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while loading JSON Web Key Set", e);
+            }
+        }
+        return Keys.parse(json);
+    }
+
+    private Object location() {
+        return jwksFile != null ? jwksFile : jwksUri;
+    }
+
+    private static Map<String, Object> json(String base64) {
+        return HelidonJsonParser.parseObject(new String(DECODER.decode(base64), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Principal of a verified JWT.
+     *
+     * @param name subject of the token
+     * @param expiresAt expiry of the token
+     * @param claims all claims of the token
+     */
+    public record JwtPrincipal(String name, Instant expiresAt, Map<String, Object> claims) implements Principal {
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        private boolean isExpired(Instant now) {
+            return !expiresAt.isAfter(now);
+        }
+    }
+
+    // signing keys by key ID; a key set with a single key also serves tokens without a key ID
+    private record Keys(Map<String, PublicKey> byId, PublicKey single) {
+
+        private PublicKey find(String kid) {
+            return kid == null ? single : byId.get(kid);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Keys parse(String json) {
+            if (!(HelidonJsonParser.parseObject(json).get("keys") instanceof List<?> jwks)) {
+                throw new IllegalArgumentException("Missing keys");
+            }
+            Map<String, PublicKey> byId = new HashMap<>();
+            PublicKey last = null;
+            int count = 0;
+            for (Object jwk : jwks) {
+                if (!(jwk instanceof Map<?, ?> map) || "enc".equals(map.get("use"))) {
+                    continue;
+                }
+                PublicKey key = key((Map<String, Object>) map);
+                if (key != null) {
+                    count++;
+                    last = key;
+                    if (map.get("kid") instanceof String kid) {
+                        byId.put(kid, key);
+                    }
+                }
+            }
+            return new Keys(Map.copyOf(byId), count == 1 ? last : null);
+        }
+
+        // public key of a JWK, null for unsupported key types
+        private static PublicKey key(Map<String, Object> jwk) {
+            try {
+                Object type = jwk.get("kty");
+                if ("RSA".equals(type)) {
+                    return KeyFactory.getInstance("RSA")
+                            .generatePublic(new RSAPublicKeySpec(integer(jwk, "n"), integer(jwk, "e")));
+                }
+                if ("EC".equals(type)) {
+                    String curve = switch (String.valueOf(jwk.get("crv"))) {
+                        case "P-256" -> "secp256r1";
+                        case "P-384" -> "secp384r1";
+                        case "P-521" -> "secp521r1";
+                        default -> null;
+                    };
+                    if (curve == null) {
+                        return null;
+                    }
+                    AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+                    parameters.init(new ECGenParameterSpec(curve));
+                    ECPoint point = new ECPoint(integer(jwk, "x"), integer(jwk, "y"));
+                    return KeyFactory.getInstance("EC")
+                            .generatePublic(new ECPublicKeySpec(point, parameters.getParameterSpec(ECParameterSpec.class)));
+                }
+                return null;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalArgumentException("Invalid key " + jwk.get("kid"), e);
+            }
+        }
+
+        private static BigInteger integer(Map<String, Object> jwk, String name) {
+            if (!(jwk.get(name) instanceof String value)) {
+                throw new IllegalArgumentException("Key " + jwk.get("kid") + " is missing " + name);
+            }
+            return new BigInteger(1, DECODER.decode(value));
+        }
+    }
+
+    // rejection of a token that may become valid, or may have been valid with other keys
+    private static final class TransientRejection extends RuntimeException {
+
+        private TransientRejection() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * Builder for {@link HelidonJwtValidator}.
+     */
+    public static final class Builder {
+
+        private Path jwksFile;
+        private URI jwksUri;
+        private Duration refreshInterval = Duration.ofMinutes(10);
+        private Duration connectTimeout = Duration.ofSeconds(5);
+        private Duration requestTimeout = Duration.ofSeconds(10);
+        private Duration leeway = Duration.ofSeconds(30);
+        private String issuer;
+        private String audience;
+        private Duration cacheTtl = Duration.ofMinutes(5);
+        private int cacheMaxSize = 10000;
+        private Clock clock = Clock.systemUTC();
+
+        private Builder() {
+        }
+
+        /**
+         * Load the key set from a file.
+         *
+         * @param file JSON Web Key Set file
+         * @return updated builder
+         */
+        public Builder jwks(Path file) {
+            this.jwksFile = Objects.requireNonNull(file);
+            this.jwksUri = null;
+            return this;
+        }
+
+        /**
+         * Load the key set from an HTTP endpoint.
+         *
+         * @param uri JSON Web Key Set endpoint
+         * @return updated builder
+         */
+        public Builder jwks(URI uri) {
+            this.jwksUri = Objects.requireNonNull(uri);
+            this.jwksFile = null;
+            return this;
+        }
+
+        /**
+         * Interval of reloading the key set in the background, zero to never reload.
+         * Defaults to 10 minutes.
+         *
+         * @param refreshInterval refresh interval
+         * @return updated builder
+         */
+        public Builder refreshInterval(Duration refreshInterval) {
+            if (refreshInterval.isNegative()) {
+                throw new IllegalArgumentException("refreshInterval must not be negative: " + refreshInterval);
+            }
+            this.refreshInterval = refreshInterval;
+            return this;
+        }
+
+        /**
+         * Timeout of connecting to the key set endpoint. Defaults to 5 seconds.
+         *
+         * @param connectTimeout connect timeout, must be positive
+         * @return updated builder
+         */
+        public Builder connectTimeout(Duration connectTimeout) {
+            this.connectTimeout = positive(connectTimeout, "connectTimeout");
+            return this;
+        }
+
+        /**
+         * Timeout of loading the key set from its endpoint, once connected. Defaults to 10 seconds.
+         *
+         * @param requestTimeout request timeout, must be positive
+         * @return updated builder
+         */
+        public Builder requestTimeout(Duration requestTimeout) {
+            this.requestTimeout = positive(requestTimeout, "requestTimeout");
+            return this;
+        }
+
+        /**
+         * Allowed clock skew when checking expiry and not-before time. Defaults to 30 seconds.
+         *
+         * @param leeway allowed clock skew
+         * @return updated builder
+         */
+        public Builder leeway(Duration leeway) {
+            this.leeway = Objects.requireNonNull(leeway);
+            return this;
+        }
+
+        /**
+         * Required value of the {@code iss} claim.
+         *
+         * @param issuer expected issuer
+         * @return updated builder
+         */
+        public Builder issuer(String issuer) {
+            this.issuer = issuer;
+            return this;
+        }
+
+        /**
+         * Required value, or one of the values, of the {@code aud} claim.
+         *
+         * @param audience expected audience
+         * @return updated builder
+         */
+        public Builder audience(String audience) {
+            this.audience = audience;
+            return this;
+        }
+
+        /**
+         * Time to live of verified tokens in the cache. Defaults to 5 minutes; tokens that expire
+         * sooner are rejected on expiry regardless.
+         *
+         * @param cacheTtl time to live
+         * @return updated builder
+         */
+        public Builder cacheTtl(Duration cacheTtl) {
+            this.cacheTtl = Objects.requireNonNull(cacheTtl);
+            return this;
+        }
+
+        /**
+         * Maximal number of cached tokens. Defaults to 10000.
+         *
+         * @param cacheMaxSize maximal size, must be positive
+         * @return updated builder
+         */
+        public Builder cacheMaxSize(int cacheMaxSize) {
+            if (cacheMaxSize <= 0) {
+                throw new IllegalArgumentException("cacheMaxSize must be positive: " + cacheMaxSize);
+            }
+            this.cacheMaxSize = cacheMaxSize;
+            return this;
+        }
+
+        // time source of token validation, for tests
+        Builder clock(Clock clock) {
+            this.clock = Objects.requireNonNull(clock);
+            return this;
+        }
+
+        /**
+         * Build the validator and load the key set.
+         *
+         * @return new validator
+         * @throws IllegalStateException if the key set cannot be loaded
+         */
+        public HelidonJwtValidator build() {
+            if (jwksFile == null && jwksUri == null) {
+                throw new IllegalStateException("JSON Web Key Set location is required");
+            }
+            return new HelidonJwtValidator(this);
+        }
+
+        private static Duration positive(Duration timeout, String name) {
+            Objects.requireNonNull(timeout, name + " is null");
+            if (timeout.isNegative() || timeout.isZero()) {
+                throw new IllegalArgumentException(name + " must be positive: " + timeout);
+            }
+            return timeout;
+        }
+    }
+}
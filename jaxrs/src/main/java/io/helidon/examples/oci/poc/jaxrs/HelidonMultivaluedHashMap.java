@@ -15,78 +15,116 @@
  */
 package io.helidon.examples.oci.poc.jaxrs;
 
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.helidon.http.Header;
 import io.helidon.http.HeaderName;
 import io.helidon.http.HeaderNames;
 import io.helidon.http.HeaderValues;
+import io.helidon.http.HeaderWriteable;
+import io.helidon.http.Headers;
 import io.helidon.webserver.http.ServerRequest;
 
 import javax.ws.rs.core.MultivaluedMap;
 
+/**
+ * View of the request headers as a JAX-RS multivalued map. Reads and writes go directly to
+ * the underlying {@link ServerRequest}; collection views reflect its current headers.
+ *
+ * <p>Values are appended in place to writable headers of the request. Request headers own
+ * their writable headers: headers parsed from the request are created for it, and a writable
+ * header set on the request is wrapped in a copy on write, so appending never changes a header
+ * shared with other requests.
+ */
 public class HelidonMultivaluedHashMap implements MultivaluedMap<String, String> {
 
+    // header names as used by filters, bounded so that arbitrary names cannot grow it
+    private static final int NAME_CACHE_SIZE = 256;
+    private static final Map<String, HeaderName> NAME_CACHE = new ConcurrentHashMap<>();
+
     private final ServerRequest request;
 
     public HelidonMultivaluedHashMap(ServerRequest request) {
         this.request = request;
     }
 
+    static HeaderName headerName(String name) {
+        return HelidonHeaderParser.cached(NAME_CACHE, NAME_CACHE_SIZE, name, HeaderNames::create);
+    }
+
     @Override
     public void putSingle(String key, String value) {
-        request.header(HeaderValues.create(key, value));
+        request.header(HeaderValues.create(headerName(key), value));
     }
 
     @Override
     public void add(String key, String value) {
-        HeaderName headerName = HeaderNames.create(key);
-        if (request.headers().contains(headerName)) {
-            Header header = request.headers().get(headerName);
-            List<String> values = new ArrayList<>(header.allValues());
-            values.add(value);
-            request.header(HeaderValues.create(key, values));
+        HeaderName headerName = headerName(key);
+        Headers headers = request.headers();
+        if (!headers.contains(headerName)) {
+            request.header(HeaderValues.create(headerName, value));
+        } else if (headers.get(headerName) instanceof HeaderWriteable header) {
+            header.addValue(value);
         } else {
-            putSingle(key, value);
+            request.header(HeaderWriteable.create(headers.get(headerName)).addValue(value));
         }
     }
 
     @Override
     public String getFirst(String key) {
-        return request.headers().first(HeaderNames.create(key)).orElse(null);
+        HeaderName headerName = headerName(key);
+        Headers headers = request.headers();
+        return headers.contains(headerName) ? headers.get(headerName).get() : null;
     }
 
     @Override
     public void addAll(String key, String... newValues) {
-        HeaderName headerName = HeaderNames.create(key);
-        Header header = request.headers().get(headerName);
-        List<String> values = new ArrayList<>(header.allValues());
-        values.addAll(List.of(newValues));
-        request.header(HeaderValues.create(key, values));
+        addAll(key, List.of(newValues));
     }
 
     @Override
     public void addAll(String key, List<String> valueList) {
-        addAll(key, valueList.toArray(new String[0]));
+        if (valueList.isEmpty()) {
+            return;
+        }
+        HeaderName headerName = headerName(key);
+        Headers headers = request.headers();
+        if (!headers.contains(headerName)) {
+            request.header(HeaderValues.create(headerName, valueList));
+        } else if (headers.get(headerName) instanceof HeaderWriteable header) {
+            for (String value : valueList) {
+                header.addValue(value);
+            }
+        } else {
+            HeaderWriteable header = HeaderWriteable.create(headers.get(headerName));
+            for (String value : valueList) {
+                header.addValue(value);
+            }
+            request.header(header);
+        }
     }
 
     @Override
     public void addFirst(String key, String value) {
-        HeaderName headerName = HeaderNames.create(key);
-        if (request.headers().contains(headerName)) {
-            Header header = request.headers().get(headerName);
-            List<String> values = new ArrayList<>();
+        HeaderName headerName = headerName(key);
+        Headers headers = request.headers();
+        if (headers.contains(headerName)) {
+            Header header = headers.get(headerName);
+            List<String> values = new ArrayList<>(header.valueCount() + 1);
             values.add(value);
             values.addAll(header.allValues());
-            request.header(HeaderValues.create(key, values));
+            request.header(HeaderValues.create(headerName, values));
         } else {
-            putSingle(key, value);
+            request.header(HeaderValues.create(headerName, value));
         }
     }
 
@@ -108,19 +146,19 @@ public class HelidonMultivaluedHashMap implements MultivaluedMap<String, String>
     @Override
     public boolean containsKey(Object key) {
         if (key instanceof String s) {
-            return request.headers().contains(HeaderNames.create(s));
+            return request.headers().contains(headerName(s));
         }
         return false;
     }
 
     @Override
     public boolean containsValue(Object value) {
-        if (value instanceof String s) {
-            return request.headers()
-                    .stream()
-                    .map(Header::allValues)
-                    .flatMap(List::stream)
-                    .anyMatch(val -> Objects.equals(val, value));
+        if (value instanceof String) {
+            for (Header header : request.headers()) {
+                if (header.allValues().contains(value)) {
+                    return true;
+                }
+            }
         }
         return false;
     }
@@ -128,26 +166,14 @@ public class HelidonMultivaluedHashMap implements MultivaluedMap<String, String>
     @Override
     public List<String> get(Object key) {
         if (key instanceof String s) {
-            HeaderName headerName = HeaderNames.create(s);
-            if (!request.headers().contains(headerName)) {
-                return request.headers().get(headerName).allValues();
-            }
+            return get(headerName(s));
         }
         return List.of();
     }
 
     @Override
     public List<String> put(String key, List<String> values) {
-        HeaderName headerName = HeaderNames.create(key);
-        if (request.headers().contains(headerName)) {
-            Header header = request.headers().get(headerName);
-            List<String> oldValues = header.allValues();
-            request.header(HeaderValues.create(key, values));
-            return oldValues;
-        } else {
-            request.header(HeaderValues.create(key, values));
-            return List.of();
-        }
+        return put(headerName(key), values);
     }
 
     @Override
@@ -167,42 +193,85 @@ public class HelidonMultivaluedHashMap implements MultivaluedMap<String, String>
 
     @Override
     public Set<String> keySet() {
-        return request.headers()
-                .stream()
-                .map(Header::name)
-                .collect(Collectors.toSet());
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<String> iterator() {
+                Iterator<Header> headers = request.headers().iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return headers.hasNext();
+                    }
+
+                    @Override
+                    public String next() {
+                        return headers.next().name();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return HelidonMultivaluedHashMap.this.size();
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return containsKey(o);
+            }
+        };
     }
 
     @Override
     public Collection<List<String>> values() {
-        return request.headers()
-                .stream()
-                .map(Header::allValues)
-                .collect(Collectors.toList());
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<List<String>> iterator() {
+                Iterator<Header> headers = request.headers().iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return headers.hasNext();
+                    }
+
+                    @Override
+                    public List<String> next() {
+                        return headers.next().allValues();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return HelidonMultivaluedHashMap.this.size();
+            }
+        };
     }
 
     @Override
     public Set<Entry<String, List<String>>> entrySet() {
-        return request.headers()
-                .stream()
-                .map(header -> new Entry<String, List<String>>() {
-
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, List<String>>> iterator() {
+                Iterator<Header> headers = request.headers().iterator();
+                return new Iterator<>() {
                     @Override
-                    public String getKey() {
-                        return header.name();
+                    public boolean hasNext() {
+                        return headers.hasNext();
                     }
 
                     @Override
-                    public List<String> getValue() {
-                        return header.allValues();
+                    public Entry<String, List<String>> next() {
+                        return new HeaderEntry(headers.next());
                     }
+                };
+            }
 
-                    @Override
-                    public List<String> setValue(List<String> value) {
-                        throw new UnsupportedOperationException("not yet implemented");
-                    }
-                })
-                .collect(Collectors.toSet());
+            @Override
+            public int size() {
+                return HelidonMultivaluedHashMap.this.size();
+            }
+        };
     }
 
     @Override
@@ -217,4 +286,39 @@ public class HelidonMultivaluedHashMap implements MultivaluedMap<String, String>
     public int hashCode() {
         return Objects.hashCode(request);
     }
+
+    private List<String> get(HeaderName headerName) {
+        Headers headers = request.headers();
+        return headers.contains(headerName) ? headers.get(headerName).allValues() : List.of();
+    }
+
+    private List<String> put(HeaderName headerName, List<String> values) {
+        List<String> oldValues = get(headerName);
+        request.header(HeaderValues.create(headerName, values));
+        return oldValues;
+    }
+
+    private final class HeaderEntry implements Entry<String, List<String>> {
+
+        private final Header header;
+
+        private HeaderEntry(Header header) {
+            this.header = header;
+        }
+
+        @Override
+        public String getKey() {
+            return header.name();
+        }
+
+        @Override
+        public List<String> getValue() {
+            return get(header.headerName());
+        }
+
+        @Override
+        public List<String> setValue(List<String> value) {
+            return put(header.headerName(), value);
+        }
+    }
 }
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.examples.oci.poc.jaxrs;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.helidon.common.parameters.Parameters;
+
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * Read-only view of Helidon {@link Parameters} as a JAX-RS multivalued map. Nothing is copied;
+ * a parameter without a value, such as {@code ?flag}, has a single empty value.
+ */
+final class HelidonParametersMap extends AbstractMap<String, List<String>> implements MultivaluedMap<String, String> {
+
+    private static final List<String> NO_VALUE = List.of("");
+
+    private final Parameters parameters;
+
+    HelidonParametersMap(Parameters parameters) {
+        this.parameters = parameters;
+    }
+
+    /**
+     * Parse raw {@code name=value} pairs, keeping them encoded.
+     *
+     * @param component name of the parameters, such as {@code uri/query}
+     * @param raw raw parameters, may be empty
+     * @param separator separator of the pairs
+     * @return view of the parsed parameters
+     */
+    static HelidonParametersMap parseRaw(String component, String raw, char separator) {
+        if (raw.isEmpty()) {
+            return new HelidonParametersMap(Parameters.empty(component));
+        }
+        Map<String, List<String>> values = new LinkedHashMap<>();
+        int start = 0;
+        while (start <= raw.length()) {
+            int end = raw.indexOf(separator, start);
+            if (end < 0) {
+                end = raw.length();
+            }
+            if (end > start) {
+                int equals = raw.indexOf('=', start);
+                String name = equals < 0 || equals > end ? raw.substring(start, end) : raw.substring(start, equals);
+                String value = equals < 0 || equals > end ? "" : raw.substring(equals + 1, end);
+                values.computeIfAbsent(name, it -> new ArrayList<>()).add(value);
+            }
+            start = end + 1;
+        }
+        return new HelidonParametersMap(Parameters.create(component, values));
+    }
+
+    @Override
+    public List<String> get(Object key) {
+        if (key instanceof String name && parameters.contains(name)) {
+            return values(name);
+        }
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String name && parameters.contains(name);
+    }
+
+    @Override
+    public int size() {
+        return parameters.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return parameters.isEmpty();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return Collections.unmodifiableSet(parameters.names());
+    }
+
+    @Override
+    public Set<Entry<String, List<String>>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, List<String>>> iterator() {
+                Iterator<String> names = parameters.names().iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return names.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, List<String>> next() {
+                        String name = names.next();
+                        return new SimpleImmutableEntry<>(name, values(name));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return parameters.size();
+            }
+        };
+    }
+
+    @Override
+    public String getFirst(String key) {
+        List<String> values = get(key);
+        return values == null ? null : values.getFirst();
+    }
+
+    @Override
+    public boolean equalsIgnoreValueOrder(MultivaluedMap<String, String> otherMap) {
+        if (otherMap == this) {
+            return true;
+        }
+        if (!keySet().equals(otherMap.keySet())) {
+            return false;
+        }
+        for (String name : parameters.names()) {
+            List<String> values = values(name);
+            List<String> otherValues = otherMap.get(name);
+            if (!sameValues(values, otherValues)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void putSingle(String key, String value) {
+        throw new UnsupportedOperationException("Parameters are read-only");
+    }
+
+    @Override
+    public void add(String key, String value) {
+        throw new UnsupportedOperationException("Parameters are read-only");
+    }
+
+    @Override
+    public void addAll(String key, String... newValues) {
+        throw new UnsupportedOperationException("Parameters are read-only");
+    }
+
+    @Override
+    public void addAll(String key, List<String> valueList) {
+        throw new UnsupportedOperationException("Parameters are read-only");
+    }
+
+    @Override
+    public void addFirst(String key, String value) {
+        throw new UnsupportedOperationException("Parameters are read-only");
+    }
+
+    private List<String> values(String name) {
+        List<String> values = parameters.all(name, List::of);
+        return values.isEmpty() ? NO_VALUE : values;
+    }
+
+    // same values with the same number of occurrences, in any order
+    private static boolean sameValues(List<String> values, List<String> otherValues) {
+        if (otherValues == null || values.size() != otherValues.size()) {
+            return false;
+        }
+        Map<String, Integer> counts = new HashMap<>();
+        for (String value : values) {
+            counts.merge(value, 1, Integer::sum);
+        }
+        for (String value : otherValues) {
+            Integer count = counts.get(value);
+            if (count == null) {
+                return false;
+            }
+            if (count == 1) {
+                counts.remove(value);
+            } else {
+                counts.put(value, count - 1);
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.examples.oci.poc.jaxrs;
+
+import java.nio.ByteBuffer;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link PrincipalResolver} that caches the principals resolved by another resolver, bounded in
+ * size and with a time to live. Tokens that do not resolve are cached as well, so that repeated
+ * invalid tokens do not reach the identity service. Tokens are kept as SHA-256 digests only.
+ *
+ * <p>When the cache is full, the least recently used principal is evicted. Tokens that do not
+ * resolve are kept apart, in a region of an eighth of the size, so that a flood of random tokens
+ * cannot evict valid principals. Concurrent misses of the same token call the resolver once, and
+ * an exception of the resolver is not cached. Hits and misses are also counted by
+ * {@link HelidonFilterMetrics}, tagged {@code principal}.
+ */
+public final class HelidonPrincipalCache implements PrincipalResolver {
+
+    private final HelidonBoundedCache<ByteBuffer, Principal> principals;
+    private final PrincipalResolver resolver;
+
+    private HelidonPrincipalCache(Builder builder) {
+        long ttlNanos = builder.ttl.toNanos();
+        this.resolver = builder.resolver;
+        this.principals = new HelidonBoundedCache<>("principal",
+                                                    builder.maxSize,
+                                                    principal -> ttlNanos,
+                                                    Objects::isNull,
+                                                    builder.ticker);
+    }
+
+    /**
+     * Create a builder with defaults: 5 minutes time to live and at most 10000 cached principals.
+     *
+     * @param resolver resolver called on a cache miss
+     * @return new builder
+     */
+    public static Builder builder(PrincipalResolver resolver) {
+        return new Builder(resolver);
+    }
+
+    @Override
+    public Principal resolve(String token) {
+        ByteBuffer key = ByteBuffer.wrap(HelidonBoundedCache.digest(token));
+        return principals.get(key, it -> resolver.resolve(token));
+    }
+
+    /**
+     * Remove all cached principals, for example when the keys that verified them have changed.
+     * Principals being resolved are returned to their callers, but not cached.
+     */
+    public void clear() {
+        principals.clear();
+    }
+
+    /**
+     * Number of principals served from the cache.
+     *
+     * @return cache hits
+     */
+    public long hits() {
+        return principals.hits();
+    }
+
+    /**
+     * Number of principals resolved by the underlying resolver.
+     *
+     * @return cache misses
+     */
+    public long misses() {
+        return principals.misses();
+    }
+
+    /**
+     * Number of principals currently cached, including expired ones not yet evicted.
+     *
+     * @return cache size
+     */
+    public int size() {
+        return principals.size();
+    }
+
+    /**
+     * Builder for {@link HelidonPrincipalCache}.
+     */
+    public static final class Builder {
+
+        private final PrincipalResolver resolver;
+        private Duration ttl = Duration.ofMinutes(5);
+        private int maxSize = 10000;
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder(PrincipalResolver resolver) {
+            this.resolver = Objects.requireNonNull(resolver);
+        }
+
+        /**
+         * Time to live of cached principals.
+         *
+         * @param ttl time to live
+         * @return updated builder
+         */
+        public Builder ttl(Duration ttl) {
+            this.ttl = Objects.requireNonNull(ttl);
+            return this;
+        }
+
+        /**
+         * Maximal number of cached principals; up to an eighth of it (at least one) tokens that
+         * did not resolve are cached in addition.
+         *
+         * @param maxSize maximal size, must be positive
+         * @return updated builder
+         */
+        public Builder maxSize(int maxSize) {
+            if (maxSize <= 0) {
+                throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+            }
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        // time source in nanoseconds, for tests
+        Builder ticker(LongSupplier ticker) {
+            this.ticker = Objects.requireNonNull(ticker);
+            return this;
+        }
+
+        /**
+         * Build the cache.
+         *
+         * @return new cache
+         */
+        public HelidonPrincipalCache build() {
+            return new HelidonPrincipalCache(this);
+        }
+    }
+}
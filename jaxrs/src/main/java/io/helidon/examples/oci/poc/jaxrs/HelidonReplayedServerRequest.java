@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.examples.oci.poc.jaxrs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+import io.helidon.common.buffers.BufferData;
+import io.helidon.common.context.Context;
+import io.helidon.common.socket.PeerInfo;
+import io.helidon.common.uri.UriInfo;
+import io.helidon.common.uri.UriQuery;
+import io.helidon.http.Header;
+import io.helidon.http.HttpPrologue;
+import io.helidon.http.RoutedPath;
+import io.helidon.http.ServerRequestHeaders;
+import io.helidon.http.encoding.ContentDecoder;
+import io.helidon.http.media.ReadableEntity;
+import io.helidon.webserver.ListenerContext;
+import io.helidon.webserver.ProxyProtocolData;
+import io.helidon.webserver.http.HttpSecurity;
+import io.helidon.webserver.http.ServerRequest;
+import io.helidon.webserver.http.ServerRequestEntity;
+
+/**
+ * Server request handed to the resource method after a filter read the entity. Everything is
+ * delegated to the original request, except for the content, which reads the given stream.
+ */
+final class HelidonReplayedServerRequest implements ServerRequest {
+
+    // same as the default of the HTTP/1 listener, only used when the entity is buffered again
+    private static final long MAX_BUFFERED_ENTITY_SIZE = 64 * 1024;
+
+    private final ServerRequest delegate;
+    private final ReadableEntity content;
+    private UnaryOperator<InputStream> streamFilter = UnaryOperator.identity();
+
+    HelidonReplayedServerRequest(ServerRequest delegate, InputStream entity) {
+        this.delegate = delegate;
+        this.content = ServerRequestEntity.create(continueSent -> { },
+                                                  it -> streamFilter.apply(it),
+                                                  ContentDecoder.NO_OP,
+                                                  estimate -> read(entity, estimate),
+                                                  () -> { },
+                                                  delegate.headers(),
+                                                  delegate.listenerContext().mediaContext(),
+                                                  MAX_BUFFERED_ENTITY_SIZE);
+    }
+
+    @Override
+    public ReadableEntity content() {
+        return content;
+    }
+
+    @Override
+    public HttpPrologue prologue() {
+        return delegate.prologue();
+    }
+
+    @Override
+    public ServerRequestHeaders headers() {
+        return delegate.headers();
+    }
+
+    @Override
+    public RoutedPath path() {
+        return delegate.path();
+    }
+
+    @Override
+    public UriQuery query() {
+        return delegate.query();
+    }
+
+    @Override
+    public PeerInfo remotePeer() {
+        return delegate.remotePeer();
+    }
+
+    @Override
+    public PeerInfo localPeer() {
+        return delegate.localPeer();
+    }
+
+    @Override
+    public String authority() {
+        return delegate.authority();
+    }
+
+    @Override
+    public void header(Header header) {
+        delegate.header(header);
+    }
+
+    @Override
+    public int id() {
+        return delegate.id();
+    }
+
+    @Override
+    public UriInfo requestedUri() {
+        return delegate.requestedUri();
+    }
+
+    @Override
+    public void reset() {
+        delegate.reset();
+    }
+
+    @Override
+    public boolean isSecure() {
+        return delegate.isSecure();
+    }
+
+    @Override
+    public String socketId() {
+        return delegate.socketId();
+    }
+
+    @Override
+    public String serverSocketId() {
+        return delegate.serverSocketId();
+    }
+
+    @Override
+    public Context context() {
+        return delegate.context();
+    }
+
+    @Override
+    public ListenerContext listenerContext() {
+        return delegate.listenerContext();
+    }
+
+    @Override
+    public HttpSecurity security() {
+        return delegate.security();
+    }
+
+    @Override
+    public boolean continueSent() {
+        return delegate.continueSent();
+    }
+
+    @Override
+    public void streamFilter(UnaryOperator<InputStream> filterFunction) {
+        UnaryOperator<InputStream> previous = streamFilter;
+        streamFilter = it -> filterFunction.apply(previous.apply(it));
+    }
+
+    @Override
+    public Optional<ProxyProtocolData> proxyProtocolData() {
+        return delegate.proxyProtocolData();
+    }
+
+    @Override
+    public Optional<String> matchingPattern() {
+        return delegate.matchingPattern();
+    }
+
+    private static BufferData read(InputStream entity, int estimate) {
+        byte[] bytes = new byte[Math.max(estimate, 8192)];
+        try {
+            int read = entity.read(bytes);
+            return read < 0 ? null : BufferData.create(bytes, 0, read);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.examples.oci.poc.jaxrs;
+
+import jakarta.servlet.http.HttpServletRequest;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.UriInfo;
+
+/**
+ * Binds the request context being filtered to the current thread.
+ *
+ * <p>Filters annotated with {@link SingletonFilter} are created once and shared by all requests,
+ * so their {@code @Context} fields are injected with the proxies returned by {@link #uriInfo()},
+ * {@link #resourceInfo()} and {@link #httpServletRequest()}. Each proxy resolves the instance
+ * from the request context currently in scope.
+ */
+public final class HelidonRequestScope {
+
+    private static final ThreadLocal<HelidonContainerRequestContext> CURRENT = new ThreadLocal<>();
+    private static final UriInfo URI_INFO = new HelidonScopedUriInfo();
+    private static final ResourceInfo RESOURCE_INFO = new HelidonScopedResourceInfo();
+    private static final HttpServletRequest HTTP_SERVLET_REQUEST = new HelidonScopedHttpServletRequest();
+
+    private HelidonRequestScope() {
+    }
+
+    /**
+     * Bring a request context in scope for the current thread.
+     *
+     * @param context the request context
+     * @return the context previously in scope, to be passed to {@link #exit(HelidonContainerRequestContext)}
+     */
+    public static HelidonContainerRequestContext enter(HelidonContainerRequestContext context) {
+        HelidonContainerRequestContext previous = CURRENT.get();
+        CURRENT.set(context);
+        return previous;
+    }
+
+    /**
+     * Restore the request context that was in scope before {@link #enter(HelidonContainerRequestContext)}.
+     *
+     * @param previous the context returned by {@code enter}, may be {@code null}
+     */
+    public static void exit(HelidonContainerRequestContext previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Get the request context in scope.
+     *
+     * @return the current request context
+     * @throws IllegalStateException if no request is in scope
+     */
+    public static HelidonContainerRequestContext current() {
+        HelidonContainerRequestContext context = CURRENT.get();
+        if (context == null) {
+            throw new IllegalStateException("No request in scope");
+        }
+        return context;
+    }
+
+    /**
+     * Request-scoped {@link UriInfo} proxy.
+     *
+     * @return uri info of the current request
+     */
+    public static UriInfo uriInfo() {
+        return URI_INFO;
+    }
+
+    /**
+     * Request-scoped {@link ResourceInfo} proxy.
+     *
+     * @return resource info of the current request
+     */
+    public static ResourceInfo resourceInfo() {
+        return RESOURCE_INFO;
+    }
+
+    /**
+     * Request-scoped {@link HttpServletRequest} proxy.
+     *
+     * @return servlet view of the current request
+     */
+    public static HttpServletRequest httpServletRequest() {
+        return HTTP_SERVLET_REQUEST;
+    }
+}
@@ -17,32 +17,76 @@ package io.helidon.examples.oci.poc.jaxrs;
 
 import java.lang.reflect.Method;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.container.ResourceInfo;
 
 public class HelidonResourceInfo implements ResourceInfo {
 
-    static final Map<String, Method> METHOD_MAP = new HashMap<>();
-    static final ReadWriteLock METHOD_MAP_LOCK = new ReentrantReadWriteLock();
+    /*
+     * Resolved methods by resource class and signature. Values are attached to the Class itself,
+     * so entries go away together with the class loader on redeploy, and classes with the same
+     * name from different class loaders never share an entry. Reads do not lock.
+     */
+    static final ClassValue<ConcurrentHashMap<String, Method>> METHODS = new ClassValue<>() {
+        @Override
+        protected ConcurrentHashMap<String, Method> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
 
     private final String serviceType;
     private final String methodSignature;
-    private final String mapKey;
-
 
     private Method method;
     private Class<?> resourceClass;
 
+    /**
+     * Create a resource info resolved up front, for use as a constant in generated code.
+     * Unlike instances created from a method signature, the returned instance is immutable
+     * and never consults the shared method cache.
+     *
+     * @param resourceClass the resource class
+     * @param methodName the resource method name
+     * @param parameterTypes the resource method parameter types
+     * @return resolved resource info
+     * @throws IllegalStateException if the method does not exist
+     */
+    public static ResourceInfo create(Class<?> resourceClass, String methodName, Class<?>... parameterTypes) {
+        try {
+            return new Resolved(resourceClass, resourceClass.getDeclaredMethod(methodName, parameterTypes));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Method not found: " + methodName, e);
+        }
+    }
+
+    /**
+     * Drop the methods of a resource class from the shared method cache, so that they are
+     * looked up again on next use. Only meant for tests and benchmarks of the lookup.
+     *
+     * @param resourceClass the resource class
+     */
+    public static void clearMethodCache(Class<?> resourceClass) {
+        METHODS.remove(resourceClass);
+    }
+
     public HelidonResourceInfo(String serviceType, String methodSignature) {
         this.serviceType = serviceType;
         this.methodSignature = methodSignature;
-        this.mapKey = serviceType + "::" + methodSignature;
+    }
+
+    /**
+     * Create a resource info of an already loaded class, so that the class is not loaded again
+     * through the context class loader. The method is resolved through the shared method cache.
+     *
+     * @param resourceClass the resource class
+     * @param methodSignature the resource method signature
+     */
+    public HelidonResourceInfo(Class<?> resourceClass, String methodSignature) {
+        this.serviceType = resourceClass.getName();
+        this.methodSignature = methodSignature;
+        this.resourceClass = resourceClass;
     }
 
     @Override
@@ -51,34 +95,18 @@ public class HelidonResourceInfo implements ResourceInfo {
             return method;
         }
 
-        Lock readLock = METHOD_MAP_LOCK.readLock();
-        readLock.lock();
-        try {
-            method = METHOD_MAP.get(mapKey);
-            if (method != null) {
-                return method;
+        Class<?> clazz = getResourceClass();
+        ConcurrentHashMap<String, Method> methods = METHODS.get(clazz);
+        Method m = methods.get(methodSignature);
+        if (m == null) {
+            m = findMethod(clazz, methodSignature);
+            Method existing = methods.putIfAbsent(methodSignature, m);
+            if (existing != null) {
+                m = existing;
             }
-        } finally {
-            readLock.unlock();
         }
-
-        loadResourceClass();
-
-        for (Method m : resourceClass.getDeclaredMethods()) {
-            if (methodSignature(m).equals(methodSignature)) {
-                Lock writeLock = METHOD_MAP_LOCK.writeLock();
-                writeLock.lock();
-                try {
-                    METHOD_MAP.put(mapKey, m);
-                    method = m;
-                } finally {
-                    writeLock.unlock();
-                }
-                return method;
-            }
-        }
-
-        throw new IllegalStateException("Method not found: " + methodSignature);
+        method = m;
+        return m;
     }
 
     @Override
@@ -99,6 +127,15 @@ public class HelidonResourceInfo implements ResourceInfo {
         }
     }
 
+    private static Method findMethod(Class<?> clazz, String methodSignature) {
+        for (Method m : clazz.getDeclaredMethods()) {
+            if (methodSignature(m).equals(methodSignature)) {
+                return m;
+            }
+        }
+        throw new IllegalStateException("Method not found: " + methodSignature);
+    }
+
     static String methodSignature(Method m) {
         String returnType = m.getReturnType().getTypeName();
         String name = m.getName();
@@ -107,4 +144,17 @@ public class HelidonResourceInfo implements ResourceInfo {
                 .collect(Collectors.joining(", "));
         return String.format("%s %s(%s)", returnType, name, params).trim();
     }
+
+    private record Resolved(Class<?> resourceClass, Method resourceMethod) implements ResourceInfo {
+
+        @Override
+        public Method getResourceMethod() {
+            return resourceMethod;
+        }
+
+        @Override
+        public Class<?> getResourceClass() {
+            return resourceClass;
+        }
+    }
 }
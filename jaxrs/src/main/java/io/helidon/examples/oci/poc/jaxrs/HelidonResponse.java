@@ -17,30 +17,79 @@ package io.helidon.examples.oci.poc.jaxrs;
 
 import java.lang.annotation.Annotation;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
+import io.helidon.http.HeaderNames;
+
 import javax.ws.rs.core.CacheControl;
 import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.GenericType;
 import javax.ws.rs.core.Link;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.NewCookie;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriBuilder;
 import javax.ws.rs.core.Variant;
 
+/**
+ * Server-side response created through {@link Response.ResponseBuilder}. Header values keep the
+ * type they were set with and are formatted when written.
+ *
+ * <p>Responses for common bodiless statuses are shared, immutable instances: use the constants
+ * below to reject a request without allocating anything. The builder also returns them when
+ * nothing but one of these statuses is set. Their {@linkplain #getMetadata() metadata} cannot be
+ * modified, since it would be shared by all requests; set headers on the builder instead, or in
+ * a response filter, which changes the response being sent rather than this instance.
+ */
 public class HelidonResponse extends Response {
 
+    /** Shared {@code 400 Bad Request} response without headers or entity, its metadata is immutable. */
+    public static final Response BAD_REQUEST = new HelidonResponse(Status.BAD_REQUEST);
+    /** Shared {@code 401 Unauthorized} response without headers or entity, its metadata is immutable. */
+    public static final Response UNAUTHORIZED = new HelidonResponse(Status.UNAUTHORIZED);
+    /** Shared {@code 403 Forbidden} response without headers or entity, its metadata is immutable. */
+    public static final Response FORBIDDEN = new HelidonResponse(Status.FORBIDDEN);
+    /** Shared {@code 404 Not Found} response without headers or entity, its metadata is immutable. */
+    public static final Response NOT_FOUND = new HelidonResponse(Status.NOT_FOUND);
+    /** Shared {@code 429 Too Many Requests} response without headers or entity, its metadata is immutable. */
+    public static final Response TOO_MANY_REQUESTS = new HelidonResponse(Status.TOO_MANY_REQUESTS);
+    /** Shared {@code 503 Service Unavailable} response without headers or entity, its metadata is immutable. */
+    public static final Response SERVICE_UNAVAILABLE = new HelidonResponse(Status.SERVICE_UNAVAILABLE);
+
+    private static final String CONTENT_TYPE = HeaderNames.CONTENT_TYPE.defaultCase();
+    private static final String CONTENT_LANGUAGE = HeaderNames.CONTENT_LANGUAGE.defaultCase();
+    private static final String CONTENT_LENGTH = HeaderNames.CONTENT_LENGTH.defaultCase();
+    private static final String SET_COOKIE = HeaderNames.SET_COOKIE.defaultCase();
+    private static final String LINK = HeaderNames.LINK.defaultCase();
+
     private final int status;
     private final String reasonPhrase;
+    private final Object entity;
+    // created on first access, immutable responses share the empty headers
+    private HelidonResponseHeaders headers;
 
     private HelidonResponse(ResponseBuilder builder) {
         this.status = builder.status;
         this.reasonPhrase = builder.reasonPhrase;
+        this.entity = builder.entity;
+        this.headers = builder.headers;
+    }
+
+    private HelidonResponse(Status status) {
+        this.status = status.getStatusCode();
+        this.reasonPhrase = null;
+        this.entity = null;
+        this.headers = HelidonResponseHeaders.EMPTY;
     }
 
     @Override
@@ -50,12 +99,31 @@ public class HelidonResponse extends Response {
 
     @Override
     public StatusType getStatusInfo() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        Status known = Status.fromStatusCode(status);
+        if (known != null && (reasonPhrase == null || reasonPhrase.equals(known.getReasonPhrase()))) {
+            return known;
+        }
+        return new StatusType() {
+            @Override
+            public int getStatusCode() {
+                return status;
+            }
+
+            @Override
+            public Status.Family getFamily() {
+                return Status.Family.familyOf(status);
+            }
+
+            @Override
+            public String getReasonPhrase() {
+                return reasonPhrase != null ? reasonPhrase : "";
+            }
+        };
     }
 
     @Override
     public Object getEntity() {
-        return null;
+        return entity;
     }
 
     @Override
@@ -80,7 +148,7 @@ public class HelidonResponse extends Response {
 
     @Override
     public boolean hasEntity() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return entity != null;
     }
 
     @Override
@@ -94,62 +162,129 @@ public class HelidonResponse extends Response {
 
     @Override
     public MediaType getMediaType() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        Object contentType = first(CONTENT_TYPE);
+        if (contentType instanceof MediaType mediaType) {
+            return mediaType;
+        }
+        return contentType == null ? null : HelidonHeaderParser.mediaType(contentType.toString());
     }
 
     @Override
     public Locale getLanguage() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        Object language = first(CONTENT_LANGUAGE);
+        if (language instanceof Locale locale) {
+            return locale;
+        }
+        return language == null ? null : Locale.forLanguageTag(language.toString());
     }
 
     @Override
     public int getLength() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        Object length = first(CONTENT_LENGTH);
+        if (length == null) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(length.toString());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
     }
 
     @Override
     public Set<String> getAllowedMethods() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        String allow = getHeaderString(HeaderNames.ALLOW.defaultCase());
+        if (allow == null) {
+            return Set.of();
+        }
+        Set<String> methods = new LinkedHashSet<>();
+        for (String method : allow.split(",")) {
+            if (!method.isBlank()) {
+                methods.add(method.trim().toUpperCase(Locale.ROOT));
+            }
+        }
+        return methods;
     }
 
     @Override
     public Map<String, NewCookie> getCookies() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        List<Object> values = headers().get(SET_COOKIE);
+        if (values == null || values.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, NewCookie> cookies = new HashMap<>();
+        for (Object value : values) {
+            if (value instanceof NewCookie cookie) {
+                cookies.put(cookie.getName(), cookie);
+            } else if (value != null) {
+                try {
+                    NewCookie cookie = HelidonHeaderParser.newCookie(value.toString());
+                    cookies.put(cookie.getName(), cookie);
+                } catch (IllegalArgumentException e) {
+                    // not a valid cookie, skip it
+                }
+            }
+        }
+        return cookies;
     }
 
     @Override
     public EntityTag getEntityTag() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        Object tag = first(HeaderNames.ETAG.defaultCase());
+        if (tag instanceof EntityTag entityTag) {
+            return entityTag;
+        }
+        return tag == null ? null : HelidonHeaderParser.entityTag(tag.toString());
     }
 
     @Override
     public Date getDate() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return date(HeaderNames.DATE.defaultCase());
     }
 
     @Override
     public Date getLastModified() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return date(HeaderNames.LAST_MODIFIED.defaultCase());
     }
 
     @Override
     public URI getLocation() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        Object location = first(HeaderNames.LOCATION.defaultCase());
+        if (location instanceof URI uri) {
+            return uri;
+        }
+        return location == null ? null : URI.create(location.toString());
     }
 
     @Override
     public Set<Link> getLinks() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        List<Object> values = headers().get(LINK);
+        if (values == null || values.isEmpty()) {
+            return Set.of();
+        }
+        // links set as text need a header delegate to be parsed
+        Set<Link> links = new LinkedHashSet<>();
+        for (Object value : values) {
+            if (value instanceof Link link) {
+                links.add(link);
+            }
+        }
+        return links;
     }
 
     @Override
     public boolean hasLink(String relation) {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return getLink(relation) != null;
     }
 
     @Override
     public Link getLink(String relation) {
-        throw new UnsupportedOperationException("Not supported yet.");
+        for (Link link : getLinks()) {
+            if (link.getRels().contains(relation)) {
+                return link;
+            }
+        }
+        return null;
     }
 
     @Override
@@ -157,34 +292,92 @@ public class HelidonResponse extends Response {
         throw new UnsupportedOperationException("Not supported yet.");
     }
 
+    /**
+     * Headers of this response. The constants of this class, which the builder also returns
+     * when only their status is set, have empty headers that cannot be modified.
+     *
+     * @return headers of the response
+     * @throws UnsupportedOperationException on modification, if the response is shared
+     */
     @Override
     public MultivaluedMap<String, Object> getMetadata() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return headers();
     }
 
     @Override
     public MultivaluedMap<String, String> getStringHeaders() {
-        throw new UnsupportedOperationException("Not supported yet.");
+        MultivaluedMap<String, String> stringHeaders = new MultivaluedHashMap<>();
+        headers().forEach((name, values) -> {
+            for (Object value : values) {
+                stringHeaders.add(name, HelidonHeaderParser.headerValue(value));
+            }
+        });
+        return stringHeaders;
     }
 
     @Override
     public String getHeaderString(String name) {
-        throw new UnsupportedOperationException("Not supported yet.");
+        List<Object> values = headers().get(name);
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        if (values.size() == 1) {
+            return HelidonHeaderParser.headerValue(values.getFirst());
+        }
+        List<String> strings = new ArrayList<>(values.size());
+        for (Object value : values) {
+            strings.add(HelidonHeaderParser.headerValue(value));
+        }
+        return String.join(",", strings);
+    }
+
+    private HelidonResponseHeaders headers() {
+        if (headers == null) {
+            headers = new HelidonResponseHeaders();
+        }
+        return headers;
+    }
+
+    private Object first(String name) {
+        return headers == null ? null : headers.getFirst(name);
+    }
+
+    private Date date(String name) {
+        Object date = first(name);
+        if (date instanceof Date value) {
+            return value;
+        }
+        return date == null ? null : HelidonHeaderParser.date(date.toString());
     }
 
     static class ResponseBuilder extends Response.ResponseBuilder {
 
         private int status;
         private String reasonPhrase;
+        private Object entity;
+        // created with the first header
+        private HelidonResponseHeaders headers;
 
         @Override
         public Response build() {
+            if (entity == null && headers == null) {
+                Response shared = shared(status);
+                if (shared != null
+                        && (reasonPhrase == null || reasonPhrase.equals(shared.getStatusInfo().getReasonPhrase()))) {
+                    return shared;
+                }
+            }
             return new HelidonResponse(this);
         }
 
         @Override
         public Response.ResponseBuilder clone() {
-            throw new UnsupportedOperationException("Not supported yet.");
+            ResponseBuilder clone = new ResponseBuilder();
+            clone.status = status;
+            clone.reasonPhrase = reasonPhrase;
+            clone.entity = entity;
+            clone.headers = headers == null ? null : HelidonResponseHeaders.copyOf(headers);
+            return clone;
         }
 
         @Override
@@ -202,127 +395,251 @@ public class HelidonResponse extends Response {
 
         @Override
         public Response.ResponseBuilder entity(Object entity) {
-            throw new UnsupportedOperationException("Not supported yet.");
+            this.entity = entity;
+            return this;
         }
 
         @Override
         public Response.ResponseBuilder entity(Object entity, Annotation[] annotations) {
-            throw new UnsupportedOperationException("Not supported yet.");
+            // annotations are only used by message body writers
+            this.entity = entity;
+            return this;
         }
 
         @Override
         public Response.ResponseBuilder allow(String... methods) {
-            throw new UnsupportedOperationException("Not supported yet.");
+            return allow(methods == null ? null : new LinkedHashSet<>(List.of(methods)));
         }
 
         @Override
         public Response.ResponseBuilder allow(Set<String> methods) {
-            throw new UnsupportedOperationException("Not supported yet.");
+            return single(HeaderNames.ALLOW.defaultCase(), methods == null ? null : String.join(",", methods));
         }
 
         @Override
         public Response.ResponseBuilder cacheControl(CacheControl cacheControl) {
-            throw new UnsupportedOperationException("Not supported yet.");
+            return single(HeaderNames.CACHE_CONTROL.defaultCase(), cacheControl);
         }
 
         @Override
         public Response.ResponseBuilder encoding(String encoding) {
-            throw new UnsupportedOperationException("Not supported yet.");
+            return single(HeaderNames.CONTENT_ENCODING.defaultCase(), encoding);
         }
 
         @Override
         public Response.ResponseBuilder header(String name, Object value) {
-            throw new UnsupportedOperationException("Not supported yet.");
+            if (value == null) {
+                if (headers != null) {
+                    headers.remove(name);
+                }
+            } else {
+                headers().add(name, value);
+            }
+            return this;
         }
 
         @Override
         public Response.ResponseBuilder replaceAll(MultivaluedMap<String, Object> headers) {
-            throw new UnsupportedOperationException("Not supported yet.");
+            this.headers = headers == null ? null : HelidonResponseHeaders.copyOf(headers);
+            return this;
         }
 
         @Override
         public Response.ResponseBuilder language(String language) {
-            throw new UnsupportedOperationException("Not supported yet.");
+            return single(CONTENT_LANGUAGE, language);
         }
 
         @Override
         public Response.ResponseBuilder language(Locale language) {
-            throw new UnsupportedOperationException("Not supported yet.");
+            return single(CONTENT_LANGUAGE, language);
         }
 
         @Override
         public Response.ResponseBuilder type(MediaType type) {
-            throw new UnsupportedOperationException("Not supported yet.");
+            return single(CONTENT_TYPE, type);
         }
 
         @Override
         public Response.ResponseBuilder type(String type) {
-            throw new UnsupportedOperationException("Not supported yet.");
+            return single(CONTENT_TYPE, type);
         }
 
         @Override
         public Response.ResponseBuilder variant(Variant variant) {
-            throw new UnsupportedOperationException("Not supported yet.");
+            if (variant == null) {
+                type((MediaType) null);
+                language((Locale) null);
+                return encoding(null);
+            }
+            type(variant.getMediaType());
+            language(variant.getLanguage());
+            return encoding(variant.getEncoding());
         }
 
         @Override
         public Response.ResponseBuilder contentLocation(URI location) {
-            throw new UnsupportedOperationException("Not supported yet.");
+            return single(HeaderNames.CONTENT_LOCATION.defaultCase(), location);
         }
 
         @Override
         public Response.ResponseBuilder cookie(NewCookie... cookies) {
-            throw new UnsupportedOperationException("Not supported yet.");
+            if (cookies == null) {
+                return single(SET_COOKIE, null);
+            }
+            for (NewCookie cookie : cookies) {
+                header(SET_COOKIE, cookie);
+            }
+            return this;
         }
 
         @Override
         public Response.ResponseBuilder expires(Date expires) {
-            throw new UnsupportedOperationException("Not supported yet.");
+            return single(HeaderNames.EXPIRES.defaultCase(), expires);
         }
 
         @Override
         public Response.ResponseBuilder lastModified(Date lastModified) {
-            throw new UnsupportedOperationException("Not supported yet.");
+            return single(HeaderNames.LAST_MODIFIED.defaultCase(), lastModified);
         }
 
         @Override
         public Response.ResponseBuilder location(URI location) {
-            throw new UnsupportedOperationException("Not supported yet.");
+            return single(HeaderNames.LOCATION.defaultCase(), location);
         }
 
         @Override
         public Response.ResponseBuilder tag(EntityTag tag) {
-            throw new UnsupportedOperationException("Not supported yet.");
+            return single(HeaderNames.ETAG.defaultCase(), tag);
         }
 
         @Override
         public Response.ResponseBuilder tag(String tag) {
-            throw new UnsupportedOperationException("Not supported yet.");
+            return tag(tag == null ? null : new EntityTag(tag));
         }
 
         @Override
         public Response.ResponseBuilder variants(Variant... variants) {
-            throw new UnsupportedOperationException("Not supported yet.");
+            return variants(variants == null ? null : List.of(variants));
         }
 
         @Override
         public Response.ResponseBuilder variants(List<Variant> variants) {
-            throw new UnsupportedOperationException("Not supported yet.");
+            if (variants == null || variants.isEmpty()) {
+                return single(HeaderNames.VARY.defaultCase(), null);
+            }
+            // vary on each dimension in which the variants differ
+            List<String> vary = new ArrayList<>(3);
+            if (variants.stream().map(Variant::getMediaType).distinct().count() > 1) {
+                vary.add(HeaderNames.ACCEPT.defaultCase());
+            }
+            if (variants.stream().map(Variant::getLanguage).distinct().count() > 1) {
+                vary.add(HeaderNames.ACCEPT_LANGUAGE.defaultCase());
+            }
+            if (variants.stream().map(Variant::getEncoding).distinct().count() > 1) {
+                vary.add(HeaderNames.ACCEPT_ENCODING.defaultCase());
+            }
+            return single(HeaderNames.VARY.defaultCase(), vary.isEmpty() ? null : String.join(",", vary));
         }
 
         @Override
         public Response.ResponseBuilder links(Link... links) {
-            throw new UnsupportedOperationException("Not supported yet.");
+            if (links == null) {
+                return single(LINK, null);
+            }
+            for (Link link : links) {
+                header(LINK, link);
+            }
+            return this;
         }
 
         @Override
         public Response.ResponseBuilder link(URI uri, String rel) {
-            throw new UnsupportedOperationException("Not supported yet.");
+            return header(LINK, new SimpleLink(uri, rel));
         }
 
         @Override
         public Response.ResponseBuilder link(String uri, String rel) {
+            return link(URI.create(uri), rel);
+        }
+
+        private HelidonResponseHeaders headers() {
+            if (headers == null) {
+                headers = new HelidonResponseHeaders();
+            }
+            return headers;
+        }
+
+        private Response.ResponseBuilder single(String name, Object value) {
+            if (value != null || headers != null) {
+                headers().single(name, value);
+            }
+            return this;
+        }
+
+        private static Response shared(int status) {
+            return switch (status) {
+                case 400 -> BAD_REQUEST;
+                case 401 -> UNAUTHORIZED;
+                case 403 -> FORBIDDEN;
+                case 404 -> NOT_FOUND;
+                case 429 -> TOO_MANY_REQUESTS;
+                case 503 -> SERVICE_UNAVAILABLE;
+                default -> null;
+            };
+        }
+    }
+
+    /**
+     * Link with a single relation, {@link Link#fromUri(URI)} needs a link builder.
+     */
+    private static final class SimpleLink extends Link {
+
+        private final URI uri;
+        private final String rel;
+
+        private SimpleLink(URI uri, String rel) {
+            this.uri = Objects.requireNonNull(uri, "uri is null");
+            this.rel = rel;
+        }
+
+        @Override
+        public URI getUri() {
+            return uri;
+        }
+
+        @Override
+        public UriBuilder getUriBuilder() {
             throw new UnsupportedOperationException("Not supported yet.");
         }
+
+        @Override
+        public String getRel() {
+            return rel;
+        }
+
+        @Override
+        public List<String> getRels() {
+            return rel == null ? List.of() : List.of(rel.split(" "));
+        }
+
+        @Override
+        public String getTitle() {
+            return null;
+        }
+
+        @Override
+        public String getType() {
+            return null;
+        }
+
+        @Override
+        public Map<String, String> getParams() {
+            return rel == null ? Map.of() : Map.of(REL, rel);
+        }
+
+        @Override
+        public String toString() {
+            return HelidonHeaderParser.headerValue(this);
+        }
     }
 }
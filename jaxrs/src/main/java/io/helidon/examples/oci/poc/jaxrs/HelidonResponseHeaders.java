@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.examples.oci.poc.jaxrs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.ws.rs.core.AbstractMultivaluedMap;
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * Response headers set through the JAX-RS API. Names are case-insensitive and values keep
+ * their type until written. Backed by a sorted map, so a response with a handful of headers
+ * needs no hash table.
+ */
+final class HelidonResponseHeaders extends AbstractMultivaluedMap<String, Object> {
+
+    /**
+     * Shared empty headers that cannot be modified.
+     */
+    static final HelidonResponseHeaders EMPTY = new HelidonResponseHeaders(Map.of());
+
+    HelidonResponseHeaders() {
+        super(new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
+    }
+
+    private HelidonResponseHeaders(Map<String, List<Object>> store) {
+        super(store);
+    }
+
+    /**
+     * Copy headers, values lists are copied as well.
+     *
+     * @param headers headers to copy
+     * @return new headers
+     */
+    static HelidonResponseHeaders copyOf(MultivaluedMap<String, Object> headers) {
+        HelidonResponseHeaders copy = new HelidonResponseHeaders();
+        headers.forEach((name, values) -> copy.put(name, new ArrayList<>(values)));
+        return copy;
+    }
+
+    /**
+     * Replace all values of a header, or remove the header if the value is {@code null}.
+     *
+     * @param name header name
+     * @param value header value, may be {@code null}
+     */
+    void single(String name, Object value) {
+        if (value == null) {
+            remove(name);
+        } else {
+            putSingle(name, value);
+        }
+    }
+}
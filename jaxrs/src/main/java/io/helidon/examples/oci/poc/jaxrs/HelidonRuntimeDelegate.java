@@ -15,15 +15,38 @@
  */
 package io.helidon.examples.oci.poc.jaxrs;
 
+import java.util.Date;
+import java.util.Objects;
+import java.util.function.Function;
+
 import javax.ws.rs.core.Application;
+import javax.ws.rs.core.CacheControl;
+import javax.ws.rs.core.Cookie;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.Link;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.NewCookie;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriBuilder;
 import javax.ws.rs.core.Variant;
 import javax.ws.rs.ext.RuntimeDelegate;
 
+/**
+ * Partial JAX-RS runtime, enough for filters to build responses and convert typed headers.
+ *
+ * <p>Header delegates exist for {@link MediaType}, {@link CacheControl}, {@link Cookie},
+ * {@link NewCookie}, {@link EntityTag} and {@link Date}. They are stateless and created once per
+ * type; parsing goes through the bounded caches of {@link HelidonHeaderParser}.
+ */
 public class HelidonRuntimeDelegate extends RuntimeDelegate {
 
+    private static final ClassValue<HeaderDelegate<?>> HEADER_DELEGATES = new ClassValue<>() {
+        @Override
+        protected HeaderDelegate<?> computeValue(Class<?> type) {
+            return headerDelegate(type);
+        }
+    };
+
     @Override
     public UriBuilder createUriBuilder() {
         throw new UnsupportedOperationException("Not supported yet.");
@@ -46,12 +69,75 @@ public class HelidonRuntimeDelegate extends RuntimeDelegate {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T> HeaderDelegate<T> createHeaderDelegate(Class<T> type) throws IllegalArgumentException {
-        throw new UnsupportedOperationException("Not supported yet.");
+        Objects.requireNonNull(type, "type is null");
+        HeaderDelegate<?> delegate = HEADER_DELEGATES.get(type);
+        if (delegate == null) {
+            throw new IllegalArgumentException("No header delegate for " + type.getName());
+        }
+        return (HeaderDelegate<T>) delegate;
     }
 
     @Override
     public Link.Builder createLinkBuilder() {
         throw new UnsupportedOperationException("Not supported yet.");
     }
+
+    private static HeaderDelegate<?> headerDelegate(Class<?> type) {
+        if (type == MediaType.class) {
+            return new SimpleHeaderDelegate<>(HelidonHeaderParser::mediaType, HelidonHeaderParser::format);
+        }
+        if (type == CacheControl.class) {
+            return new SimpleHeaderDelegate<>(HelidonHeaderParser::cacheControl, HelidonHeaderParser::format);
+        }
+        if (type == NewCookie.class) {
+            return new SimpleHeaderDelegate<>(HelidonHeaderParser::newCookie, HelidonHeaderParser::format);
+        }
+        if (type == Cookie.class) {
+            return new SimpleHeaderDelegate<Cookie>(HelidonHeaderParser::cookie, HelidonHeaderParser::format);
+        }
+        if (type == EntityTag.class) {
+            return new SimpleHeaderDelegate<>(HelidonHeaderParser::entityTag, HelidonHeaderParser::headerValue);
+        }
+        if (type == Date.class) {
+            return new SimpleHeaderDelegate<>(HelidonRuntimeDelegate::date, HelidonHeaderParser::headerValue);
+        }
+        return null;
+    }
+
+    private static Date date(String value) {
+        Date date = HelidonHeaderParser.date(value);
+        if (date == null) {
+            throw new IllegalArgumentException("Invalid date: " + value);
+        }
+        return date;
+    }
+
+    private static final class SimpleHeaderDelegate<T> implements HeaderDelegate<T> {
+
+        private final Function<String, T> parser;
+        private final Function<? super T, String> formatter;
+
+        private SimpleHeaderDelegate(Function<String, T> parser, Function<? super T, String> formatter) {
+            this.parser = parser;
+            this.formatter = formatter;
+        }
+
+        @Override
+        public T fromString(String value) {
+            if (value == null) {
+                throw new IllegalArgumentException("Header value is null");
+            }
+            return parser.apply(value);
+        }
+
+        @Override
+        public String toString(T value) {
+            if (value == null) {
+                throw new IllegalArgumentException("Header value is null");
+            }
+            return formatter.apply(value);
+        }
+    }
 }
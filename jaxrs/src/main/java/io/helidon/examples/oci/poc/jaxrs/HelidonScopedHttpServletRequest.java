@@ -0,0 +1,401 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.examples.oci.poc.jaxrs;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.security.Principal;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.Locale;
+import java.util.Map;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.RequestDispatcher;
+import jakarta.servlet.ServletConnection;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpUpgradeHandler;
+import jakarta.servlet.http.Part;
+
+/**
+ * {@link HttpServletRequest} that delegates to the request in {@link HelidonRequestScope}.
+ */
+class HelidonScopedHttpServletRequest implements HttpServletRequest {
+
+    @Override
+    public StringBuffer getRequestURL() {
+        return current().getRequestURL();
+    }
+
+    @Override
+    public String getQueryString() {
+        return current().getQueryString();
+    }
+
+    @Override
+    public String getLocalAddr() {
+        return current().getLocalAddr();
+    }
+
+    @Override
+    public int getLocalPort() {
+        return current().getLocalPort();
+    }
+
+    @Override
+    public String getAuthType() {
+        return current().getAuthType();
+    }
+
+    @Override
+    public Cookie[] getCookies() {
+        return current().getCookies();
+    }
+
+    @Override
+    public long getDateHeader(String s) {
+        return current().getDateHeader(s);
+    }
+
+    @Override
+    public String getHeader(String s) {
+        return current().getHeader(s);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String s) {
+        return current().getHeaders(s);
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        return current().getHeaderNames();
+    }
+
+    @Override
+    public int getIntHeader(String s) {
+        return current().getIntHeader(s);
+    }
+
+    @Override
+    public String getMethod() {
+        return current().getMethod();
+    }
+
+    @Override
+    public String getPathInfo() {
+        return current().getPathInfo();
+    }
+
+    @Override
+    public String getPathTranslated() {
+        return current().getPathTranslated();
+    }
+
+    @Override
+    public String getContextPath() {
+        return current().getContextPath();
+    }
+
+    @Override
+    public String getRemoteUser() {
+        return current().getRemoteUser();
+    }
+
+    @Override
+    public boolean isUserInRole(String s) {
+        return current().isUserInRole(s);
+    }
+
+    @Override
+    public Principal getUserPrincipal() {
+        return current().getUserPrincipal();
+    }
+
+    @Override
+    public String getRequestedSessionId() {
+        return current().getRequestedSessionId();
+    }
+
+    @Override
+    public String getRequestURI() {
+        return current().getRequestURI();
+    }
+
+    @Override
+    public String getServletPath() {
+        return current().getServletPath();
+    }
+
+    @Override
+    public HttpSession getSession(boolean b) {
+        return current().getSession(b);
+    }
+
+    @Override
+    public HttpSession getSession() {
+        return current().getSession();
+    }
+
+    @Override
+    public String changeSessionId() {
+        return current().changeSessionId();
+    }
+
+    @Override
+    public boolean isRequestedSessionIdValid() {
+        return current().isRequestedSessionIdValid();
+    }
+
+    @Override
+    public boolean isRequestedSessionIdFromCookie() {
+        return current().isRequestedSessionIdFromCookie();
+    }
+
+    @Override
+    public boolean isRequestedSessionIdFromURL() {
+        return current().isRequestedSessionIdFromURL();
+    }
+
+    @Override
+    public boolean authenticate(HttpServletResponse httpServletResponse) throws IOException, ServletException {
+        return current().authenticate(httpServletResponse);
+    }
+
+    @Override
+    public void login(String s, String s1) throws ServletException {
+        current().login(s, s1);
+    }
+
+    @Override
+    public void logout() throws ServletException {
+        current().logout();
+    }
+
+    @Override
+    public Collection<Part> getParts() throws IOException, ServletException {
+        return current().getParts();
+    }
+
+    @Override
+    public Part getPart(String s) throws IOException, ServletException {
+        return current().getPart(s);
+    }
+
+    @Override
+    public <T extends HttpUpgradeHandler> T upgrade(Class<T> aClass) throws IOException, ServletException {
+        return current().upgrade(aClass);
+    }
+
+    @Override
+    public Object getAttribute(String s) {
+        return current().getAttribute(s);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        return current().getAttributeNames();
+    }
+
+    @Override
+    public String getCharacterEncoding() {
+        return current().getCharacterEncoding();
+    }
+
+    @Override
+    public void setCharacterEncoding(String s) throws UnsupportedEncodingException {
+        current().setCharacterEncoding(s);
+    }
+
+    @Override
+    public int getContentLength() {
+        return current().getContentLength();
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return current().getContentLengthLong();
+    }
+
+    @Override
+    public String getContentType() {
+        return current().getContentType();
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        return current().getInputStream();
+    }
+
+    @Override
+    public String getParameter(String s) {
+        return current().getParameter(s);
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+        return current().getParameterNames();
+    }
+
+    @Override
+    public String[] getParameterValues(String s) {
+        return current().getParameterValues(s);
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        return current().getParameterMap();
+    }
+
+    @Override
+    public String getProtocol() {
+        return current().getProtocol();
+    }
+
+    @Override
+    public String getScheme() {
+        return current().getScheme();
+    }
+
+    @Override
+    public String getServerName() {
+        return current().getServerName();
+    }
+
+    @Override
+    public int getServerPort() {
+        return current().getServerPort();
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        return current().getReader();
+    }
+
+    @Override
+    public String getRemoteAddr() {
+        return current().getRemoteAddr();
+    }
+
+    @Override
+    public String getRemoteHost() {
+        return current().getRemoteHost();
+    }
+
+    @Override
+    public void setAttribute(String s, Object o) {
+        current().setAttribute(s, o);
+    }
+
+    @Override
+    public void removeAttribute(String s) {
+        current().removeAttribute(s);
+    }
+
+    @Override
+    public Locale getLocale() {
+        return current().getLocale();
+    }
+
+    @Override
+    public Enumeration<Locale> getLocales() {
+        return current().getLocales();
+    }
+
+    @Override
+    public boolean isSecure() {
+        return current().isSecure();
+    }
+
+    @Override
+    public RequestDispatcher getRequestDispatcher(String s) {
+        return current().getRequestDispatcher(s);
+    }
+
+    @Override
+    public int getRemotePort() {
+        return current().getRemotePort();
+    }
+
+    @Override
+    public String getLocalName() {
+        return current().getLocalName();
+    }
+
+    @Override
+    public ServletContext getServletContext() {
+        return current().getServletContext();
+    }
+
+    @Override
+    public AsyncContext startAsync() throws IllegalStateException {
+        return current().startAsync();
+    }
+
+    @Override
+    public AsyncContext startAsync(ServletRequest servletRequest, ServletResponse servletResponse) throws IllegalStateException {
+        return current().startAsync(servletRequest, servletResponse);
+    }
+
+    @Override
+    public boolean isAsyncStarted() {
+        return current().isAsyncStarted();
+    }
+
+    @Override
+    public boolean isAsyncSupported() {
+        return current().isAsyncSupported();
+    }
+
+    @Override
+    public AsyncContext getAsyncContext() {
+        return current().getAsyncContext();
+    }
+
+    @Override
+    public DispatcherType getDispatcherType() {
+        return current().getDispatcherType();
+    }
+
+    @Override
+    public String getRequestId() {
+        return current().getRequestId();
+    }
+
+    @Override
+    public String getProtocolRequestId() {
+        return current().getProtocolRequestId();
+    }
+
+    @Override
+    public ServletConnection getServletConnection() {
+        return current().getServletConnection();
+    }
+
+    private static HttpServletRequest current() {
+        return HelidonRequestScope.current().getHttpServletRequest();
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.examples.oci.poc.jaxrs;
+
+import java.lang.reflect.Method;
+
+import javax.ws.rs.container.ResourceInfo;
+
+/**
+ * {@link ResourceInfo} that delegates to the request in {@link HelidonRequestScope}.
+ */
+class HelidonScopedResourceInfo implements ResourceInfo {
+
+    @Override
+    public Method getResourceMethod() {
+        return current().getResourceMethod();
+    }
+
+    @Override
+    public Class<?> getResourceClass() {
+        return current().getResourceClass();
+    }
+
+    private static ResourceInfo current() {
+        return HelidonRequestScope.current().getResourceInfo();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.examples.oci.poc.jaxrs;
+
+import java.net.URI;
+import java.util.List;
+
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.PathSegment;
+import javax.ws.rs.core.UriBuilder;
+import javax.ws.rs.core.UriInfo;
+
+/**
+ * {@link UriInfo} that delegates to the request in {@link HelidonRequestScope}.
+ */
+class HelidonScopedUriInfo implements UriInfo {
+
+    @Override
+    public String getPath() {
+        return current().getPath();
+    }
+
+    @Override
+    public String getPath(boolean decode) {
+        return current().getPath(decode);
+    }
+
+    @Override
+    public List<PathSegment> getPathSegments() {
+        return current().getPathSegments();
+    }
+
+    @Override
+    public List<PathSegment> getPathSegments(boolean decode) {
+        return current().getPathSegments(decode);
+    }
+
+    @Override
+    public URI getRequestUri() {
+        return current().getRequestUri();
+    }
+
+    @Override
+    public UriBuilder getRequestUriBuilder() {
+        return current().getRequestUriBuilder();
+    }
+
+    @Override
+    public URI getAbsolutePath() {
+        return current().getAbsolutePath();
+    }
+
+    @Override
+    public UriBuilder getAbsolutePathBuilder() {
+        return current().getAbsolutePathBuilder();
+    }
+
+    @Override
+    public URI getBaseUri() {
+        return current().getBaseUri();
+    }
+
+    @Override
+    public UriBuilder getBaseUriBuilder() {
+        return current().getBaseUriBuilder();
+    }
+
+    @Override
+    public MultivaluedMap<String, String> getPathParameters() {
+        return current().getPathParameters();
+    }
+
+    @Override
+    public MultivaluedMap<String, String> getPathParameters(boolean decode) {
+        return current().getPathParameters(decode);
+    }
+
+    @Override
+    public MultivaluedMap<String, String> getQueryParameters() {
+        return current().getQueryParameters();
+    }
+
+    @Override
+    public MultivaluedMap<String, String> getQueryParameters(boolean decode) {
+        return current().getQueryParameters(decode);
+    }
+
+    @Override
+    public List<String> getMatchedURIs() {
+        return current().getMatchedURIs();
+    }
+
+    @Override
+    public List<String> getMatchedURIs(boolean decode) {
+        return current().getMatchedURIs(decode);
+    }
+
+    @Override
+    public List<Object> getMatchedResources() {
+        return current().getMatchedResources();
+    }
+
+    @Override
+    public URI resolve(URI uri) {
+        return current().resolve(uri);
+    }
+
+    @Override
+    public URI relativize(URI uri) {
+        return current().relativize(uri);
+    }
+
+    private static UriInfo current() {
+        return HelidonRequestScope.current().getUriInfo();
+    }
+}
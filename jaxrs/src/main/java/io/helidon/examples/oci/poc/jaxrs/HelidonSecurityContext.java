@@ -15,11 +15,22 @@
  */
 package io.helidon.examples.oci.poc.jaxrs;
 
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.security.Principal;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 
+import io.helidon.http.HeaderName;
+import io.helidon.http.HeaderNames;
 import io.helidon.webserver.http.ServerRequest;
 
 import javax.ws.rs.core.SecurityContext;
@@ -36,79 +47,94 @@ import javax.ws.rs.core.SecurityContext;
  *   <li>Authentication scheme information</li>
  * </ul>
  *
+ * <p>Headers are read on first access and each piece is parsed only when asked for, so checking
+ * roles does not decode credentials. Principals of bearer tokens come from a
+ * {@link PrincipalResolver}: one found on the class path, or a {@link HelidonJwtValidator}
+ * if the {@value HelidonJwtValidator#JWKS_PROPERTY} system property is set. The default resolver
+ * is created on first use; if that fails, bearer tokens are rejected and creating it is retried
+ * at most every 30 seconds.
+ *
  * <p>For production use, integrate with Helidon Security module for
  * full authentication/authorization support.
  */
 public class HelidonSecurityContext implements SecurityContext {
 
+    private static final System.Logger LOGGER = System.getLogger(HelidonSecurityContext.class.getName());
+    private static final HeaderName USER_NAME = HeaderNames.create("X-User-Name");
+    private static final HeaderName USER_ROLES = HeaderNames.create("X-User-Roles");
+    private static final String BEARER_AUTH = "BEARER";
+    // shared by all requests with its cache
+    private static final DefaultResolver DEFAULT_RESOLVER = new DefaultResolver(HelidonSecurityContext::defaultResolver,
+                                                                                System::nanoTime);
+
     private final ServerRequest request;
-    private final Principal userPrincipal;
-    private final String authenticationScheme;
-    private final Set<String> roles;
+    private final PrincipalResolver resolver;
+    // parsed on first access
+    private String authorization;
+    private String roles;
+    private boolean headersRead;
+    private Principal userPrincipal;
+    private boolean principalResolved;
 
+    /**
+     * Create a security context that resolves bearer tokens with the {@link PrincipalResolver}
+     * found on the class path, if any.
+     *
+     * @param request the server request
+     */
     public HelidonSecurityContext(ServerRequest request) {
         this.request = request;
+        this.resolver = null;
+    }
 
-        Principal principal = null;
-        String scheme = null;
-        Set<String> userRoles = new HashSet<>();
-
-        // Check for authentication header
-        var authHeader = request.headers().first(io.helidon.http.HeaderNames.AUTHORIZATION);
-        if (authHeader.isPresent()) {
-            String auth = authHeader.get();
-            if (auth.toLowerCase().startsWith("basic ")) {
-                scheme = BASIC_AUTH;
-                // Extract username from Basic auth (username:password base64 encoded)
-                try {
-                    String credentials = new String(java.util.Base64.getDecoder().decode(auth.substring(6)));
-                    int colonIndex = credentials.indexOf(':');
-                    if (colonIndex > 0) {
-                        String username = credentials.substring(0, colonIndex);
-                        principal = () -> username;
-                    }
-                } catch (Exception e) {
-                    // Invalid base64 or format, leave principal as null
-                }
-            } else if (auth.toLowerCase().startsWith("bearer ")) {
-                scheme = "BEARER";
-                // For bearer tokens, we'd need JWT decoding which is application-specific
-                // Check for X-User-Name header as fallback for testing
-                var userName = request.headers().first(io.helidon.http.HeaderNames.create("X-User-Name"));
-                if (userName.isPresent()) {
-                    String name = userName.get();
-                    principal = () -> name;
-                }
-            } else if (auth.toLowerCase().startsWith("digest ")) {
-                scheme = DIGEST_AUTH;
-            }
-        }
-
-        // Check for custom roles header (useful for testing)
-        var rolesHeader = request.headers().first(io.helidon.http.HeaderNames.create("X-User-Roles"));
-        if (rolesHeader.isPresent()) {
-            String rolesStr = rolesHeader.get();
-            for (String role : rolesStr.split(",")) {
-                String trimmed = role.trim();
-                if (!trimmed.isEmpty()) {
-                    userRoles.add(trimmed);
-                }
-            }
-        }
-
-        this.userPrincipal = principal;
-        this.authenticationScheme = scheme;
-        this.roles = Collections.unmodifiableSet(userRoles);
+    /**
+     * Create a security context that resolves bearer tokens with the given resolver.
+     *
+     * @param request the server request
+     * @param resolver principal resolver, usually a {@link HelidonPrincipalCache}
+     */
+    public HelidonSecurityContext(ServerRequest request, PrincipalResolver resolver) {
+        this.request = request;
+        this.resolver = Objects.requireNonNull(resolver, "resolver is null");
     }
 
     @Override
     public Principal getUserPrincipal() {
+        if (!principalResolved) {
+            userPrincipal = resolvePrincipal();
+            principalResolved = true;
+        }
         return userPrincipal;
     }
 
     @Override
     public boolean isUserInRole(String role) {
-        return roles.contains(role);
+        readHeaders();
+        if (roles == null || role == null || role.isEmpty()) {
+            return false;
+        }
+        // scan the comma-separated list in place
+        int length = roles.length();
+        int start = 0;
+        while (start <= length) {
+            int end = roles.indexOf(',', start);
+            if (end < 0) {
+                end = length;
+            }
+            int from = start;
+            int to = end;
+            while (from < to && Character.isWhitespace(roles.charAt(from))) {
+                from++;
+            }
+            while (to > from && Character.isWhitespace(roles.charAt(to - 1))) {
+                to--;
+            }
+            if (to - from == role.length() && roles.regionMatches(from, role, 0, role.length())) {
+                return true;
+            }
+            start = end + 1;
+        }
+        return false;
     }
 
     @Override
@@ -119,8 +145,153 @@ public class HelidonSecurityContext implements SecurityContext {
 
     @Override
     public String getAuthenticationScheme() {
-        return authenticationScheme;
+        readHeaders();
+        if (authorization == null) {
+            return null;
+        }
+        if (hasScheme("basic")) {
+            return BASIC_AUTH;
+        }
+        if (hasScheme("bearer")) {
+            return BEARER_AUTH;
+        }
+        if (hasScheme("digest")) {
+            return DIGEST_AUTH;
+        }
+        return null;
     }
-}
 
+    private Principal resolvePrincipal() {
+        readHeaders();
+        if (authorization == null) {
+            return null;
+        }
+        if (hasScheme("basic")) {
+            // Extract username from Basic auth (username:password base64 encoded)
+            try {
+                String credentials = new String(Base64.getDecoder().decode(authorization.substring(6).trim()),
+                                                StandardCharsets.UTF_8);
+                int colonIndex = credentials.indexOf(':');
+                if (colonIndex > 0) {
+                    String username = credentials.substring(0, colonIndex);
+                    return () -> username;
+                }
+            } catch (IllegalArgumentException e) {
+                // Invalid base64, leave principal as null
+            }
+            return null;
+        }
+        if (hasScheme("bearer")) {
+            PrincipalResolver bearer = resolver != null ? resolver : DEFAULT_RESOLVER.get();
+            if (bearer != null) {
+                return bearer.resolve(authorization.substring(7).trim());
+            }
+            // Check for X-User-Name header as fallback for testing
+            return request.headers()
+                    .first(USER_NAME)
+                    .<Principal>map(name -> () -> name)
+                    .orElse(null);
+        }
+        return null;
+    }
+
+    /*
+     * First resolver found on the class path, or a JWT validator if a key set is configured,
+     * or none to fall back to the X-User-Name header.
+     */
+    private static PrincipalResolver defaultResolver() {
+        PrincipalResolver resolver = ServiceLoader.load(PrincipalResolver.class)
+                .findFirst()
+                .orElse(null);
+        if (resolver != null) {
+            return HelidonPrincipalCache.builder(resolver).build();
+        }
+        String jwks = System.getProperty(HelidonJwtValidator.JWKS_PROPERTY);
+        if (jwks == null || jwks.isBlank()) {
+            return null;
+        }
+        HelidonJwtValidator.Builder builder = HelidonJwtValidator.builder();
+        if (jwks.startsWith("http://") || jwks.startsWith("https://")) {
+            builder.jwks(URI.create(jwks));
+        } else {
+            builder.jwks(Path.of(jwks));
+        }
+        return builder.build();
+    }
+
+    // scheme followed by a space, case-insensitive
+    private boolean hasScheme(String scheme) {
+        return authorization.length() > scheme.length()
+                && authorization.regionMatches(true, 0, scheme, 0, scheme.length())
+                && authorization.charAt(scheme.length()) == ' ';
+    }
+
+    private void readHeaders() {
+        if (!headersRead) {
+            authorization = request.headers().first(HeaderNames.AUTHORIZATION).orElse(null);
+            roles = request.headers().first(USER_ROLES).orElse(null);
+            headersRead = true;
+        }
+    }
 
+    /**
+     * Default resolver, created on first use instead of when the class is initialized, so that a
+     * key set that cannot be loaded does not fail every request. After a failure, bearer tokens
+     * are rejected until creating the resolver is retried.
+     */
+    static final class DefaultResolver {
+
+        static final long RETRY_NANOS = TimeUnit.SECONDS.toNanos(30);
+        private static final PrincipalResolver REJECT = token -> null;
+
+        private final Supplier<PrincipalResolver> factory;
+        private final LongSupplier ticker;
+        private final ReentrantLock lock = new ReentrantLock();
+        // null until created, empty if no resolver is configured
+        private volatile Optional<PrincipalResolver> resolver;
+        // guarded by lock
+        private boolean failed;
+        private long retryAt;
+
+        DefaultResolver(Supplier<PrincipalResolver> factory, LongSupplier ticker) {
+            this.factory = factory;
+            this.ticker = ticker;
+        }
+
+        /**
+         * Get the resolver, creating it if needed.
+         *
+         * @return the resolver, a resolver rejecting all tokens if it cannot be created, or
+         *         {@code null} if none is configured
+         */
+        PrincipalResolver get() {
+            Optional<PrincipalResolver> current = resolver;
+            if (current != null) {
+                return current.orElse(null);
+            }
+            lock.lock();
+            try {
+                if (resolver != null) {
+                    return resolver.orElse(null);
+                }
+                long now = ticker.getAsLong();
+                if (failed && now - retryAt < 0) {
+                    return REJECT;
+                }
+                try {
+                    resolver = Optional.ofNullable(factory.get());
+                    return resolver.orElse(null);
+                } catch (RuntimeException | ServiceConfigurationError e) {
+                    LOGGER.log(System.Logger.Level.WARNING, "Failed to create principal resolver,"
+                            + " rejecting bearer tokens for " + TimeUnit.NANOSECONDS.toSeconds(RETRY_NANOS)
+                            + " seconds", e);
+                    failed = true;
+                    retryAt = now + RETRY_NANOS;
+                    return REJECT;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
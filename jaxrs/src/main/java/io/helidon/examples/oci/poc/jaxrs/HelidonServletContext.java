@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.examples.oci.poc.jaxrs;
+
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.EventListener;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.helidon.common.Version;
+import io.helidon.common.media.type.MediaType;
+import io.helidon.common.media.type.MediaTypes;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterRegistration;
+import jakarta.servlet.RequestDispatcher;
+import jakarta.servlet.Servlet;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletRegistration;
+import jakarta.servlet.SessionCookieConfig;
+import jakarta.servlet.SessionTrackingMode;
+import jakarta.servlet.descriptor.JspConfigDescriptor;
+
+/**
+ * Servlet context of the requests seen by filters, shared by all of them.
+ *
+ * <p>The context is that of an application deployed at the root, with no init parameters, web
+ * resources or registered servlets. Attributes are kept for the life of the server, so legacy
+ * filters can share state through them, and log messages go to the {@link System.Logger} of
+ * this class. The context is already initialized: registering servlets, filters or listeners,
+ * and changing its configuration fail with {@link IllegalStateException}. Sessions are not
+ * supported.
+ */
+final class HelidonServletContext implements ServletContext {
+
+    static final HelidonServletContext INSTANCE = new HelidonServletContext();
+
+    private static final System.Logger LOGGER = System.getLogger(HelidonServletContext.class.getName());
+
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+
+    private HelidonServletContext() {
+    }
+
+    @Override
+    public String getContextPath() {
+        return "";
+    }
+
+    @Override
+    public ServletContext getContext(String uripath) {
+        // other applications are not visible
+        return null;
+    }
+
+    @Override
+    public int getMajorVersion() {
+        return 6;
+    }
+
+    @Override
+    public int getMinorVersion() {
+        return 0;
+    }
+
+    @Override
+    public int getEffectiveMajorVersion() {
+        return getMajorVersion();
+    }
+
+    @Override
+    public int getEffectiveMinorVersion() {
+        return getMinorVersion();
+    }
+
+    @Override
+    public String getMimeType(String file) {
+        return MediaTypes.detectType(file)
+                .map(MediaType::text)
+                .orElse(null);
+    }
+
+    @Override
+    public Set<String> getResourcePaths(String path) {
+        return null;
+    }
+
+    @Override
+    public URL getResource(String path) {
+        return null;
+    }
+
+    @Override
+    public InputStream getResourceAsStream(String path) {
+        return null;
+    }
+
+    @Override
+    public RequestDispatcher getRequestDispatcher(String path) {
+        return null;
+    }
+
+    @Override
+    public RequestDispatcher getNamedDispatcher(String name) {
+        return null;
+    }
+
+    @Override
+    public void log(String msg) {
+        LOGGER.log(System.Logger.Level.INFO, msg);
+    }
+
+    @Override
+    public void log(String message, Throwable throwable) {
+        LOGGER.log(System.Logger.Level.ERROR, message, throwable);
+    }
+
+    @Override
+    public String getRealPath(String path) {
+        return null;
+    }
+
+    @Override
+    public String getServerInfo() {
+        return "Helidon/" + Version.VERSION;
+    }
+
+    @Override
+    public String getInitParameter(String name) {
+        Objects.requireNonNull(name, "name is null");
+        return null;
+    }
+
+    @Override
+    public Enumeration<String> getInitParameterNames() {
+        return Collections.emptyEnumeration();
+    }
+
+    @Override
+    public boolean setInitParameter(String name, String value) {
+        throw initialized();
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        Objects.requireNonNull(name, "name is null");
+        return attributes.get(name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        return Collections.enumeration(attributes.keySet());
+    }
+
+    @Override
+    public void setAttribute(String name, Object object) {
+        Objects.requireNonNull(name, "name is null");
+        if (object == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, object);
+        }
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        attributes.remove(name);
+    }
+
+    @Override
+    public String getServletContextName() {
+        return null;
+    }
+
+    @Override
+    public ServletRegistration.Dynamic addServlet(String servletName, String className) {
+        throw initialized();
+    }
+
+    @Override
+    public ServletRegistration.Dynamic addServlet(String servletName, Servlet servlet) {
+        throw initialized();
+    }
+
+    @Override
+    public ServletRegistration.Dynamic addServlet(String servletName, Class<? extends Servlet> servletClass) {
+        throw initialized();
+    }
+
+    @Override
+    public ServletRegistration.Dynamic addJspFile(String servletName, String jspFile) {
+        throw initialized();
+    }
+
+    @Override
+    public <T extends Servlet> T createServlet(Class<T> clazz) {
+        throw initialized();
+    }
+
+    @Override
+    public ServletRegistration getServletRegistration(String servletName) {
+        return null;
+    }
+
+    @Override
+    public Map<String, ? extends ServletRegistration> getServletRegistrations() {
+        return Map.of();
+    }
+
+    @Override
+    public FilterRegistration.Dynamic addFilter(String filterName, String className) {
+        throw initialized();
+    }
+
+    @Override
+    public FilterRegistration.Dynamic addFilter(String filterName, Filter filter) {
+        throw initialized();
+    }
+
+    @Override
+    public FilterRegistration.Dynamic addFilter(String filterName, Class<? extends Filter> filterClass) {
+        throw initialized();
+    }
+
+    @Override
+    public <T extends Filter> T createFilter(Class<T> clazz) {
+        throw initialized();
+    }
+
+    @Override
+    public FilterRegistration getFilterRegistration(String filterName) {
+        return null;
+    }
+
+    @Override
+    public Map<String, ? extends FilterRegistration> getFilterRegistrations() {
+        return Map.of();
+    }
+
+    @Override
+    public SessionCookieConfig getSessionCookieConfig() {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
+
+    @Override
+    public void setSessionTrackingModes(Set<SessionTrackingMode> sessionTrackingModes) {
+        throw initialized();
+    }
+
+    @Override
+    public Set<SessionTrackingMode> getDefaultSessionTrackingModes() {
+        return Set.of();
+    }
+
+    @Override
+    public Set<SessionTrackingMode> getEffectiveSessionTrackingModes() {
+        return Set.of();
+    }
+
+    @Override
+    public void addListener(String className) {
+        throw initialized();
+    }
+
+    @Override
+    public <T extends EventListener> void addListener(T t) {
+        throw initialized();
+    }
+
+    @Override
+    public void addListener(Class<? extends EventListener> listenerClass) {
+        throw initialized();
+    }
+
+    @Override
+    public <T extends EventListener> T createListener(Class<T> clazz) {
+        throw initialized();
+    }
+
+    @Override
+    public JspConfigDescriptor getJspConfigDescriptor() {
+        return null;
+    }
+
+    @Override
+    public ClassLoader getClassLoader() {
+        return HelidonServletContext.class.getClassLoader();
+    }
+
+    @Override
+    public void declareRoles(String... roleNames) {
+        throw initialized();
+    }
+
+    @Override
+    public String getVirtualServerName() {
+        return "helidon";
+    }
+
+    @Override
+    public int getSessionTimeout() {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
+
+    @Override
+    public void setSessionTimeout(int sessionTimeout) {
+        throw initialized();
+    }
+
+    @Override
+    public String getRequestCharacterEncoding() {
+        return null;
+    }
+
+    @Override
+    public void setRequestCharacterEncoding(String encoding) {
+        throw initialized();
+    }
+
+    @Override
+    public String getResponseCharacterEncoding() {
+        return null;
+    }
+
+    @Override
+    public void setResponseCharacterEncoding(String encoding) {
+        throw initialized();
+    }
+
+    private static IllegalStateException initialized() {
+        return new IllegalStateException("Servlet context is already initialized");
+    }
+}
@@ -17,11 +17,12 @@ package io.helidon.examples.oci.poc.jaxrs;
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import io.helidon.common.uri.UriPathSegment;
 import io.helidon.webserver.http.ServerRequest;
 
-import javax.ws.rs.core.MultivaluedHashMap;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.PathSegment;
 import javax.ws.rs.core.UriBuilder;
@@ -29,10 +30,23 @@ import javax.ws.rs.core.UriInfo;
 
 /**
  * Wrapper that adapts Helidon's ServerRequest to JAX-RS UriInfo.
+ *
+ * <p>Results are computed on first access and kept for the request. Decoded query, path and
+ * matrix parameters are read-only views over Helidon's parameters; encoded ones are parsed
+ * from the raw query and path once. Path parameters are always decoded, as Helidon matches
+ * them against the decoded path.
  */
 public class HelidonUriInfo implements UriInfo {
 
     private final ServerRequest request;
+    private List<PathSegment> pathSegments;
+    private List<PathSegment> rawPathSegments;
+    private MultivaluedMap<String, String> pathParameters;
+    private MultivaluedMap<String, String> queryParameters;
+    private MultivaluedMap<String, String> rawQueryParameters;
+    private URI requestUri;
+    private URI absolutePath;
+    private URI baseUri;
 
     public HelidonUriInfo(ServerRequest request) {
         this.request = request;
@@ -45,7 +59,7 @@ public class HelidonUriInfo implements UriInfo {
 
     @Override
     public String getPath(boolean decode) {
-        return getPath();
+        return decode ? getPath() : request.path().rawPath();
     }
 
     @Override
@@ -55,19 +69,26 @@ public class HelidonUriInfo implements UriInfo {
 
     @Override
     public List<PathSegment> getPathSegments(boolean decode) {
-        List<PathSegment> segments = new ArrayList<>();
-        String path = getPath();
-        for (String segment : path.split("/")) {
-            if (!segment.isEmpty()) {
-                segments.add(new SimplePathSegment(segment));
+        if (decode) {
+            if (pathSegments == null) {
+                pathSegments = pathSegments(true);
             }
+            return pathSegments;
+        }
+        if (rawPathSegments == null) {
+            rawPathSegments = pathSegments(false);
         }
-        return segments;
+        return rawPathSegments;
     }
 
     @Override
     public URI getRequestUri() {
-        return request.requestedUri().toUri();
+        if (requestUri == null) {
+            String query = request.query().rawValue();
+            String rawPath = request.prologue().uriPath().rawPath();
+            requestUri = uri(query.isEmpty() ? rawPath : rawPath + "?" + query);
+        }
+        return requestUri;
     }
 
     @Override
@@ -77,7 +98,10 @@ public class HelidonUriInfo implements UriInfo {
 
     @Override
     public URI getAbsolutePath() {
-        return request.requestedUri().toUri();
+        if (absolutePath == null) {
+            absolutePath = uri(request.prologue().uriPath().rawPath());
+        }
+        return absolutePath;
     }
 
     @Override
@@ -87,8 +111,10 @@ public class HelidonUriInfo implements UriInfo {
 
     @Override
     public URI getBaseUri() {
-        var uri = request.requestedUri();
-        return URI.create(uri.scheme() + "://" + uri.host() + ":" + uri.port() + "/");
+        if (baseUri == null) {
+            baseUri = uri("/");
+        }
+        return baseUri;
     }
 
     @Override
@@ -103,13 +129,10 @@ public class HelidonUriInfo implements UriInfo {
 
     @Override
     public MultivaluedMap<String, String> getPathParameters(boolean decode) {
-        MultivaluedMap<String, String> params = new MultivaluedHashMap<>();
-        request.path().pathParameters().toMap().forEach((key, values) -> {
-            for (String value : values) {
-                params.add(key, value);
-            }
-        });
-        return params;
+        if (pathParameters == null) {
+            pathParameters = new HelidonParametersMap(request.path().pathParameters());
+        }
+        return pathParameters;
     }
 
     @Override
@@ -119,13 +142,16 @@ public class HelidonUriInfo implements UriInfo {
 
     @Override
     public MultivaluedMap<String, String> getQueryParameters(boolean decode) {
-        MultivaluedMap<String, String> params = new MultivaluedHashMap<>();
-        request.query().toMap().forEach((key, values) -> {
-            for (String value : values) {
-                params.add(key, value);
+        if (decode) {
+            if (queryParameters == null) {
+                queryParameters = new HelidonParametersMap(request.query());
             }
-        });
-        return params;
+            return queryParameters;
+        }
+        if (rawQueryParameters == null) {
+            rawQueryParameters = HelidonParametersMap.parseRaw("uri/query", request.query().rawValue(), '&');
+        }
+        return rawQueryParameters;
     }
 
     @Override
@@ -135,7 +161,7 @@ public class HelidonUriInfo implements UriInfo {
 
     @Override
     public List<String> getMatchedURIs(boolean decode) {
-        return getMatchedURIs();
+        return List.of(getPath(decode));
     }
 
     @Override
@@ -153,12 +179,65 @@ public class HelidonUriInfo implements UriInfo {
         return getBaseUri().relativize(uri);
     }
 
-    private static class SimplePathSegment implements PathSegment {
-        private final String path;
-
-        SimplePathSegment(String path) {
-            this.path = path;
+    private List<PathSegment> pathSegments(boolean decode) {
+        List<UriPathSegment> segments = request.path().segments();
+        List<PathSegment> result = new ArrayList<>(segments.size());
+        for (UriPathSegment segment : segments) {
+            String raw = segment.rawValue();
+            if (raw.isEmpty() && result.isEmpty()) {
+                continue;                   // before the leading slash
+            }
+            if (decode) {
+                result.add(new SimplePathSegment(segment.value(),
+                                                 new HelidonParametersMap(segment.matrixParameters())));
+            } else {
+                int semicolon = raw.indexOf(';');
+                String matrix = semicolon < 0 ? "" : raw.substring(semicolon + 1);
+                result.add(new SimplePathSegment(segment.rawValueNoParams(),
+                                                 HelidonParametersMap.parseRaw("uri/matrix", matrix, ';')));
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Scheme, host and port of a requested URI, such as {@code http://[::1]:8080}. IPv6 hosts
+     * are enclosed in brackets and default ports are left out, so that all URIs of a request
+     * resolve and relativize against each other.
+     *
+     * @param uri requested URI
+     * @return requested origin
+     */
+    static StringBuilder origin(io.helidon.common.uri.UriInfo uri) {
+        String scheme = uri.scheme();
+        String host = uri.host();
+        int port = uri.port();
+        StringBuilder origin = new StringBuilder(scheme.length() + host.length() + 32)
+                .append(scheme)
+                .append("://");
+        if (host.indexOf(':') >= 0 && !host.startsWith("[")) {
+            origin.append('[').append(host).append(']');
+        } else {
+            origin.append(host);
+        }
+        if (port > 0 && !isDefaultPort(scheme, port)) {
+            origin.append(':').append(port);
         }
+        return origin;
+    }
+
+    private static boolean isDefaultPort(String scheme, int port) {
+        return port == 80 && "http".equalsIgnoreCase(scheme)
+                || port == 443 && "https".equalsIgnoreCase(scheme);
+    }
+
+    // requested origin with the given raw path, parsed once per request
+    private URI uri(String rawPath) {
+        return URI.create(origin(request.requestedUri()).append(rawPath).toString());
+    }
+
+    private record SimplePathSegment(String path, MultivaluedMap<String, String> matrixParameters)
+            implements PathSegment {
 
         @Override
         public String getPath() {
@@ -167,9 +246,7 @@ public class HelidonUriInfo implements UriInfo {
 
         @Override
         public MultivaluedMap<String, String> getMatrixParameters() {
-            return new MultivaluedHashMap<>();
+            return matrixParameters;
         }
     }
 }
-
-
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.examples.oci.poc.jaxrs;
+
+import java.security.Principal;
+
+/**
+ * Resolves the principal of a bearer token, typically by calling an identity service.
+ *
+ * <p>Implementations are discovered with {@link java.util.ServiceLoader}; the first one found
+ * is used by {@link HelidonSecurityContext}, behind a {@link HelidonPrincipalCache}. Without an
+ * implementation, bearer tokens are validated by a {@link HelidonJwtValidator} if a key set is
+ * configured, or the principal is taken from the {@code X-User-Name} header.
+ */
+@FunctionalInterface
+public interface PrincipalResolver {
+
+    /**
+     * Resolve the principal of a token.
+     *
+     * @param token the bearer token, without the scheme
+     * @return the principal, or {@code null} if the token is not valid
+     */
+    Principal resolve(String token);
+}
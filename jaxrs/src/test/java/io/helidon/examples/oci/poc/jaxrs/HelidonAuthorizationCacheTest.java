@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.examples.oci.poc.jaxrs;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.ws.rs.container.ResourceInfo;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link HelidonAuthorizationCache}.
+ */
+class HelidonAuthorizationCacheTest {
+
+    private static final ResourceInfo HELLO =
+            HelidonResourceInfo.create(HelidonResourceInfoTest.SampleService.class, "hello", String.class);
+    private static final ResourceInfo BYE =
+            HelidonResourceInfo.create(HelidonResourceInfoTest.SampleService.class, "doNothing");
+
+    private final AtomicLong now = new AtomicLong();
+    private StubIdentityService identity;
+    private HelidonAuthorizationCache cache;
+
+    /**
+     * Identity service that allows known credentials and counts round-trips.
+     */
+    static class StubIdentityService implements AuthorizationCache.Authorizer {
+        private final Set<String> allowed;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        StubIdentityService(String... allowed) {
+            this.allowed = Set.of(allowed);
+        }
+
+        @Override
+        public boolean authorize(String credential, ResourceInfo resourceInfo) {
+            calls.incrementAndGet();
+            return allowed.contains(credential);
+        }
+
+        int calls() {
+            return calls.get();
+        }
+    }
+
+    @BeforeEach
+    void createCache() {
+        identity = new StubIdentityService("helidon");
+        cache = HelidonAuthorizationCache.builder()
+                .ttl(Duration.ofSeconds(60))
+                .negativeTtl(Duration.ofSeconds(5))
+                .maxSize(4)
+                .ticker(now::get)
+                .build();
+    }
+
+    @Test
+    void shouldCacheAllowedDecision() {
+        for (int i = 0; i < 100; i++) {
+            assertTrue(cache.authorize("helidon", HELLO, identity));
+        }
+        assertEquals(1, identity.calls(), "Identity service must be called once");
+        assertEquals(99, cache.hits());
+        assertEquals(1, cache.misses());
+    }
+
+    @Test
+    void shouldKeySeparatelyByMethodAndCredential() {
+        assertTrue(cache.authorize("helidon", HELLO, identity));
+        assertTrue(cache.authorize("helidon", BYE, identity));
+        assertFalse(cache.authorize("intruder", HELLO, identity));
+        assertEquals(3, identity.calls());
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    void shouldExpireDeniedDecisionSooner() {
+        assertTrue(cache.authorize("helidon", HELLO, identity));
+        assertFalse(cache.authorize("intruder", HELLO, identity));
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertTrue(cache.authorize("helidon", HELLO, identity));
+        assertFalse(cache.authorize("intruder", HELLO, identity));
+        assertEquals(3, identity.calls(), "Only the denied decision must have expired");
+
+        now.addAndGet(Duration.ofSeconds(60).toNanos());
+        assertTrue(cache.authorize("helidon", HELLO, identity));
+        assertEquals(4, identity.calls(), "Allowed decision must have expired");
+    }
+
+    @Test
+    void shouldStayWithinMaxSize() {
+        for (int i = 0; i < 20; i++) {
+            cache.authorize("user" + i, HELLO, identity);
+            assertTrue(cache.size() <= 4, "Cache must not grow beyond its maximal size");
+        }
+    }
+
+    @Test
+    void shouldKeepAllowedDecisionsDuringFlood() {
+        assertTrue(cache.authorize("helidon", HELLO, identity));
+        for (int i = 0; i < 100; i++) {
+            assertFalse(cache.authorize("intruder" + i, HELLO, identity));
+        }
+        assertTrue(cache.authorize("helidon", HELLO, identity));
+        assertEquals(101, identity.calls(), "Denied decisions must not evict the allowed one");
+    }
+
+    @Test
+    void shouldAuthorizeConcurrentMissOnce() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        AuthorizationCache.Authorizer slow = (credential, resourceInfo) -> {
+            calls.incrementAndGet();
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return true;
+        };
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Boolean> first = executor.submit(() -> cache.authorize("helidon", HELLO, slow));
+            started.await();
+            Future<Boolean> second = executor.submit(() -> cache.authorize("helidon", HELLO, slow));
+            while (cache.hits() == 0 && !second.isDone()) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+            assertTrue(first.get());
+            assertTrue(second.get());
+        }
+        assertEquals(1, calls.get(), "Concurrent misses must call the authorizer once");
+    }
+}
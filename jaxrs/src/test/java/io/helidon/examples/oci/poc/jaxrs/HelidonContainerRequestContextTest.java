@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.examples.oci.poc.jaxrs;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.ws.rs.core.Response;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for suspending a {@link HelidonContainerRequestContext}.
+ */
+class HelidonContainerRequestContextTest {
+
+    private final HelidonContainerRequestContext context = new HelidonContainerRequestContext(
+            null, HelidonResourceInfo.create(HelidonResourceInfoTest.SampleService.class, "doNothing"));
+
+    @Test
+    void shouldContinueWhenSuspendedStageCompletes() throws IOException {
+        assertTrue(context.resume(), "Request that is not suspended must continue");
+
+        context.suspend(CompletableFuture.runAsync(() -> { }));
+        assertTrue(context.resume());
+
+        context.suspend(CompletableFuture.runAsync(() -> context.abortWith(HelidonResponse.FORBIDDEN)));
+        assertFalse(context.resume());
+        assertSame(HelidonResponse.FORBIDDEN, context.getAbortResponse());
+    }
+
+    @Test
+    void shouldAbortWhenSuspendedStageTimesOut() throws IOException {
+        CompletableFuture<Void> pending = new CompletableFuture<>();
+        context.suspend(pending, Duration.ofMillis(10));
+
+        assertFalse(context.resume());
+        assertSame(HelidonResponse.SERVICE_UNAVAILABLE, context.getAbortResponse());
+        assertTrue(pending.isCancelled(), "Timed out stage must be cancelled");
+    }
+
+    @Test
+    void shouldPropagateFailureOfSuspendedStage() {
+        context.suspend(CompletableFuture.failedFuture(new IllegalArgumentException("bad token")));
+        assertThrows(IllegalArgumentException.class, context::resume);
+
+        context.suspend(CompletableFuture.failedFuture(new IOException("unreachable")));
+        assertThrows(IOException.class, context::resume);
+
+        context.suspend(new CompletableFuture<>());
+        assertThrows(IllegalStateException.class, () -> context.suspend(new CompletableFuture<Response>()));
+    }
+
+    @Test
+    void shouldRunSuspendedWorkInRequestScope() throws IOException {
+        context.suspend(CompletableFuture.runAsync(() -> {
+            if (HelidonRequestScope.resourceInfo().getResourceClass() != HelidonResourceInfoTest.SampleService.class) {
+                context.abortWith(HelidonResponse.FORBIDDEN);
+            }
+        }, context.executor()));
+        assertTrue(context.resume());
+
+        context.suspend(CompletableFuture.runAsync(() -> HelidonRequestScope.resourceInfo().getResourceClass()));
+        assertThrows(IllegalStateException.class, context::resume, "Request must not be in scope of other threads");
+    }
+
+    @Test
+    void shouldCloseReplacedEntity() throws IOException {
+        AtomicBoolean closed = new AtomicBoolean();
+        context.setEntityStream(new ByteArrayInputStream(new byte[0]) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        });
+
+        context.closeEntity();
+        assertTrue(closed.get(), "Replaced entity stream must be closed");
+    }
+
+    @Test
+    void shouldReadSuspendTimeout() {
+        assertEquals(Duration.ofSeconds(2), HelidonContainerRequestContext.suspendTimeout("PT2S"));
+        assertEquals(HelidonContainerRequestContext.DEFAULT_SUSPEND_TIMEOUT,
+                     HelidonContainerRequestContext.suspendTimeout(null));
+        assertEquals(HelidonContainerRequestContext.DEFAULT_SUSPEND_TIMEOUT,
+                     HelidonContainerRequestContext.suspendTimeout("2s"));
+        assertEquals(HelidonContainerRequestContext.DEFAULT_SUSPEND_TIMEOUT,
+                     HelidonContainerRequestContext.suspendTimeout("PT0S"));
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.examples.oci.poc.jaxrs;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.helidon.http.BadRequestException;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.core.Response;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link HelidonContentDigest}.
+ */
+class HelidonContentDigestTest {
+
+    private static final byte[] ENTITY = "{\"message\":\"hello\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final Map<String, String> headers = new HashMap<>();
+    private InputStream entityStream = new ByteArrayInputStream(ENTITY);
+    private Response abortResponse;
+
+    @Test
+    void shouldPassMatchingEntity() throws Exception {
+        headers.put(HelidonContentDigest.CONTENT_DIGEST,
+                    "sha-256=:" + digest("SHA-256", ENTITY) + ":, sha-512=:" + digest("SHA-512", ENTITY) + ":");
+
+        assertTrue(HelidonContentDigest.verify(context()));
+        assertArrayEquals(ENTITY, entityStream.readAllBytes());
+        assertNull(abortResponse);
+    }
+
+    @Test
+    void shouldFailModifiedEntity() throws Exception {
+        headers.put(HelidonContentDigest.X_CONTENT_SHA256, digest("SHA-256", "other".getBytes(StandardCharsets.UTF_8)));
+
+        assertTrue(HelidonContentDigest.verify(context()));
+        assertThrows(BadRequestException.class, entityStream::readAllBytes);
+    }
+
+    @Test
+    void shouldVerifyUnreadEntityOnClose() throws Exception {
+        headers.put(HelidonContentDigest.CONTENT_DIGEST, "sha-256=:" + digest("SHA-256", ENTITY) + ":");
+        assertTrue(HelidonContentDigest.verify(context()));
+        entityStream.readNBytes(4);
+        entityStream.close();
+
+        entityStream = new ByteArrayInputStream(ENTITY);
+        headers.put(HelidonContentDigest.CONTENT_DIGEST,
+                    "sha-256=:" + digest("SHA-256", "other".getBytes(StandardCharsets.UTF_8)) + ":");
+        assertTrue(HelidonContentDigest.verify(context()));
+        entityStream.readNBytes(4);
+        assertThrows(BadRequestException.class, entityStream::close, "Entity read in part must be verified on close");
+    }
+
+    @Test
+    void shouldAbortInvalidHeader() {
+        ContainerRequestContext context = context();
+        assertFalse(HelidonContentDigest.verify(context), "No digest header");
+        assertNull(abortResponse);
+
+        headers.put(HelidonContentDigest.CONTENT_DIGEST, "md5=:AAAA:");
+        assertFalse(HelidonContentDigest.verify(context));
+        assertSame(HelidonResponse.BAD_REQUEST, abortResponse);
+    }
+
+    private ContainerRequestContext context() {
+        return (ContainerRequestContext) Proxy.newProxyInstance(
+                ContainerRequestContext.class.getClassLoader(),
+                new Class<?>[] {ContainerRequestContext.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getHeaderString" -> headers.get((String) args[0]);
+                    case "getMethod" -> "POST";
+                    case "getEntityStream" -> entityStream;
+                    case "setEntityStream" -> {
+                        entityStream = (InputStream) args[0];
+                        yield null;
+                    }
+                    case "abortWith" -> {
+                        abortResponse = (Response) args[0];
+                        yield null;
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static String digest(String algorithm, byte[] bytes) throws NoSuchAlgorithmException {
+        return Base64.getEncoder().encodeToString(MessageDigest.getInstance(algorithm).digest(bytes));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.examples.oci.poc.jaxrs;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link HelidonEntityBuffer}.
+ */
+class HelidonEntityBufferTest {
+
+    @Test
+    void shouldReplayPartlyReadEntity() throws IOException {
+        byte[] entity = entity(20_000);
+        InputStream source = new ByteArrayInputStream(entity);
+        try (HelidonEntityBuffer buffer = new HelidonEntityBuffer()) {
+            InputStream tee = buffer.tee(source);
+            tee.readNBytes(12_345);
+
+            assertEquals(12_345, buffer.size());
+            assertFalse(buffer.spilled());
+            assertArrayEquals(entity, buffer.replay(source).readAllBytes());
+        }
+    }
+
+    @Test
+    void shouldSpillLargeEntity() throws IOException {
+        byte[] entity = entity(100_000);
+        InputStream source = new ByteArrayInputStream(entity);
+        try (HelidonEntityBuffer buffer = new HelidonEntityBuffer(1024)) {
+            InputStream tee = buffer.tee(source);
+            tee.read();
+            tee.readAllBytes();
+
+            assertTrue(buffer.spilled());
+            assertEquals(entity.length, buffer.size());
+            assertArrayEquals(entity, buffer.replay(source).readAllBytes());
+        }
+    }
+
+    @Test
+    void shouldReplayUnreadEntity() throws IOException {
+        byte[] entity = entity(100);
+        InputStream source = new ByteArrayInputStream(entity);
+        try (HelidonEntityBuffer buffer = new HelidonEntityBuffer()) {
+            buffer.tee(source);
+
+            assertArrayEquals(entity, buffer.replay(source).readAllBytes());
+        }
+    }
+
+    private static byte[] entity(int size) {
+        byte[] entity = new byte[size];
+        for (int i = 0; i < size; i++) {
+            entity[i] = (byte) i;
+        }
+        return entity;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.examples.oci.poc.jaxrs;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.helidon.examples.oci.poc.jaxrs.testing.StubServerResponse;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.Status;
+
+import javax.ws.rs.container.ContainerResponseFilter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link HelidonFilteredResponse}, with filters chained the way the generated
+ * interceptors chain them.
+ */
+class HelidonFilteredResponseTest {
+
+    @Test
+    void shouldRunFiltersInOrderBeforeSending() {
+        List<String> order = new ArrayList<>();
+        StubServerResponse delegate = new StubServerResponse();
+        HelidonFilteredResponse response = new HelidonFilteredResponse(delegate, chain(
+                (request, context) -> {
+                    order.add("status");
+                    context.setStatus(Status.CREATED_201.code());
+                },
+                (request, context) -> {
+                    order.add("header");
+                    context.getHeaders().add("X-Filtered", "yes");
+                }));
+
+        response.header(HeaderNames.create("X-Resource"), "hello");
+        response.send("hello");
+        response.send("again");
+
+        assertEquals(List.of("status", "header"), order);
+        assertEquals(Status.CREATED_201, delegate.status());
+        assertEquals("yes", delegate.headers().get(HeaderNames.create("X-Filtered")).get());
+        assertEquals("hello", delegate.headers().get(HeaderNames.create("X-Resource")).get());
+        assertEquals("again", delegate.entity());
+    }
+
+    @Test
+    void shouldSendReplacedEntity() {
+        StubServerResponse delegate = new StubServerResponse();
+        HelidonFilteredResponse response = new HelidonFilteredResponse(delegate, chain(
+                (request, context) -> context.setEntity(context.getEntity() + " filtered")));
+
+        response.send("hello");
+
+        assertEquals("hello filtered", delegate.entity());
+    }
+
+    @Test
+    void shouldRejectReplacedEntityOfStreamedResponse() throws IOException {
+        StubServerResponse delegate = new StubServerResponse();
+        HelidonFilteredResponse response = new HelidonFilteredResponse(delegate, chain(
+                (request, context) -> context.setEntity("replaced")));
+
+        assertThrows(IllegalStateException.class, response::outputStream);
+        assertFalse(delegate.isSent());
+
+        StubServerResponse streamed = new StubServerResponse();
+        response = new HelidonFilteredResponse(streamed, chain(
+                (request, context) -> context.getHeaders().add("X-Filtered", "yes")));
+        try (OutputStream out = response.outputStream()) {
+            out.write("hello".getBytes(StandardCharsets.UTF_8));
+        }
+        assertEquals("yes", streamed.headers().get(HeaderNames.create("X-Filtered")).get());
+        assertArrayEquals("hello".getBytes(StandardCharsets.UTF_8), streamed.written());
+    }
+
+    @Test
+    void shouldAddHeadersToSharedAbortResponse() throws IOException {
+        HelidonContainerRequestContext context = new HelidonContainerRequestContext(
+                null, HelidonResourceInfo.create(HelidonResourceInfoTest.SampleService.class, "doNothing"));
+        context.abortWith(HelidonResponse.UNAUTHORIZED);
+        StubServerResponse delegate = new StubServerResponse();
+
+        context.sendAbortResponse(new HelidonFilteredResponse(delegate, chain(
+                (request, responseContext) -> responseContext.getHeaders().add("WWW-Authenticate", "Bearer"))));
+
+        assertEquals(Status.UNAUTHORIZED_401, delegate.status());
+        assertEquals("Bearer", delegate.headers().get(HeaderNames.WWW_AUTHENTICATE).get());
+        assertTrue(HelidonResponse.UNAUTHORIZED.getMetadata().isEmpty(), "Shared response must not change");
+    }
+
+    private static HelidonFilteredResponse.Filters chain(ContainerResponseFilter... filters) {
+        return responseContext -> {
+            for (ContainerResponseFilter filter : filters) {
+                filter.filter(null, responseContext);
+            }
+        };
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.examples.oci.poc.jaxrs;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.ws.rs.core.MediaType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link HelidonHeaderParser}.
+ */
+class HelidonHeaderParserTest {
+
+    @Test
+    void shouldSortAcceptByQualityAndSpecificity() {
+        List<MediaType> types = HelidonHeaderParser.acceptableMediaTypes(
+                "text/*;q=0.5, application/json, */*;q=0.1, text/plain;charset=utf-8;q=0.5, text/html;q=0");
+
+        assertEquals(List.of(MediaType.APPLICATION_JSON_TYPE,
+                             new MediaType("text", "plain", Map.of("charset", "utf-8")),
+                             new MediaType("text", "*"),
+                             MediaType.WILDCARD_TYPE),
+                     types);
+    }
+
+    @Test
+    void shouldDefaultToWildcard() {
+        assertEquals(List.of(MediaType.WILDCARD_TYPE), HelidonHeaderParser.acceptableMediaTypes(null));
+        assertEquals(List.of(MediaType.WILDCARD_TYPE), HelidonHeaderParser.acceptableMediaTypes("invalid"));
+    }
+
+    @Test
+    void shouldCacheParsedValues() {
+        String accept = "application/json, text/plain;q=0.9";
+        assertSame(HelidonHeaderParser.acceptableMediaTypes(accept),
+                   HelidonHeaderParser.acceptableMediaTypes(new String(accept)),
+                   "Equal header values must share the parsed list");
+
+        for (int i = 0; i < 1000; i++) {
+            HelidonHeaderParser.acceptableMediaTypes("text/x-" + i);
+        }
+        String late = "application/json;q=0.8";
+        assertSame(HelidonHeaderParser.acceptableMediaTypes(late),
+                   HelidonHeaderParser.acceptableMediaTypes(new String(late)),
+                   "Values seen after the cache is full must still be cached");
+    }
+
+    @Test
+    void shouldSortLanguagesByQuality() {
+        List<Locale> locales = HelidonHeaderParser.acceptableLanguages("fr;q=0.5, en-US, de;q=0, es;sq=0;q=0.2");
+
+        assertEquals(List.of(Locale.forLanguageTag("en-US"), Locale.FRENCH, Locale.forLanguageTag("es")), locales);
+    }
+
+    @Test
+    void shouldLeaveOutInvalidQuality() {
+        assertEquals(List.of(MediaType.TEXT_HTML_TYPE, MediaType.APPLICATION_JSON_TYPE),
+                     HelidonHeaderParser.acceptableMediaTypes(
+                             "text/plain;q=abc, application/json;q=0.5, text/xml;q=5, text/html;q=1.000, */*;q=0.5e1"));
+        assertEquals(List.of(Locale.GERMAN),
+                     HelidonHeaderParser.acceptableLanguages("en;q=abc, de;q=0.3, fr;q=5, es;q=1.5, it;q=NaN"));
+    }
+
+    @Test
+    void shouldParseContentType() {
+        assertEquals(new MediaType("text", "plain", Map.of("charset", "utf-8")),
+                     HelidonHeaderParser.mediaType("text/plain; charset=\"utf-8\""));
+        assertNull(HelidonHeaderParser.mediaType(null));
+        assertThrows(IllegalArgumentException.class, () -> HelidonHeaderParser.mediaType("text"));
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.examples.oci.poc.jaxrs;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+
+import io.helidon.examples.oci.poc.jaxrs.testing.StubServerRequest;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.WritableHeaders;
+
+import jakarta.servlet.ServletConnection;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link HelidonHttpServletRequest}.
+ */
+class HelidonHttpServletRequestTest {
+
+    @Test
+    void shouldBuildRequestUrl() {
+        assertEquals("http://[::1]:8080/greet/a%20b",
+                     servletRequest("http://[::1]:8080/greet/a%20b?x=1").getRequestURL().toString());
+        assertEquals("https://example.com/greet",
+                     servletRequest("https://example.com:443/greet").getRequestURL().toString());
+        assertEquals("http://example.com:8443/greet",
+                     servletRequest("http://example.com:8443/greet").getRequestURL().toString());
+    }
+
+    @Test
+    void shouldParseCookies() {
+        WritableHeaders<?> headers = WritableHeaders.create()
+                .add(HeaderNames.COOKIE, "session=abc; quoted=\"a b\"; bad name=1; =2");
+        Cookie[] cookies = servletRequest("http://localhost/", headers).getCookies();
+
+        assertEquals(2, cookies.length, "Cookies with invalid names must be skipped");
+        assertEquals("session", cookies[0].getName());
+        assertEquals("abc", cookies[0].getValue());
+        assertEquals("quoted", cookies[1].getName());
+        assertEquals("a b", cookies[1].getValue());
+        assertNull(servletRequest("http://localhost/").getCookies());
+    }
+
+    @Test
+    void shouldViewQueryAsParameterMap() {
+        Map<String, String[]> parameters = servletRequest("http://localhost/?a=1&a=2&b=x%20y").getParameterMap();
+
+        assertArrayEquals(new String[] {"1", "2"}, parameters.get("a"));
+        assertArrayEquals(new String[] {"x y"}, parameters.get("b"));
+        assertNull(parameters.get("c"));
+        assertEquals(2, parameters.size());
+        assertEquals(2, parameters.entrySet().size());
+        assertThrows(UnsupportedOperationException.class, () -> parameters.put("c", new String[0]));
+    }
+
+    @Test
+    void shouldReadEntityEitherAsReaderOrAsStream() throws IOException {
+        HttpServletRequest reading = entityRequest("ä");
+        reading.setCharacterEncoding("UTF-8");
+        assertEquals("ä", reading.getReader().readLine());
+        reading.setCharacterEncoding("ISO-8859-1");
+        assertEquals("UTF-8", reading.getCharacterEncoding(), "Encoding must not change once reading");
+        assertThrows(IllegalStateException.class, reading::getInputStream);
+
+        HttpServletRequest streaming = entityRequest("a");
+        assertEquals('a', streaming.getInputStream().read());
+        assertThrows(IllegalStateException.class, streaming::getReader);
+    }
+
+    @Test
+    void shouldRejectMalformedHeaders() {
+        WritableHeaders<?> headers = WritableHeaders.create()
+                .add(HeaderNames.create("Since"), "Tue, 14 Nov 2023 22:13:20 GMT")
+                .add(HeaderNames.create("Bad-Date"), "yesterday")
+                .add(HeaderNames.create("Count"), " 42 ")
+                .add(HeaderNames.create("Bad-Count"), "many");
+        HttpServletRequest request = servletRequest("http://localhost/", headers);
+
+        assertEquals(1700000000000L, request.getDateHeader("Since"));
+        assertEquals(-1, request.getDateHeader("Missing"));
+        assertThrows(IllegalArgumentException.class, () -> request.getDateHeader("Bad-Date"));
+        assertEquals(42, request.getIntHeader("Count"));
+        assertEquals(-1, request.getIntHeader("Missing"));
+        assertThrows(NumberFormatException.class, () -> request.getIntHeader("Bad-Count"));
+    }
+
+    @Test
+    void shouldRemoveAttributeSetToNull() {
+        HttpServletRequest request = servletRequest("http://localhost/");
+        request.setAttribute("user", "alice");
+        assertEquals("alice", request.getAttribute("user"));
+
+        request.setAttribute("user", null);
+        assertNull(request.getAttribute("user"));
+        assertFalse(Collections.list(request.getAttributeNames()).contains("user"));
+    }
+
+    @Test
+    void shouldShareServletContext() {
+        ServletContext servletContext = servletRequest("http://localhost/").getServletContext();
+        assertSame(servletContext, servletRequest("http://localhost/other").getServletContext());
+        assertEquals("", servletContext.getContextPath());
+        assertEquals("application/json", servletContext.getMimeType("data.json"));
+        assertNull(servletContext.getInitParameter("param"));
+
+        servletContext.setAttribute("shared", "value");
+        assertEquals("value", servletRequest("http://localhost/").getServletContext().getAttribute("shared"));
+        servletContext.removeAttribute("shared");
+        assertNull(servletContext.getAttribute("shared"));
+        assertThrows(IllegalStateException.class, () -> servletContext.setInitParameter("param", "value"));
+    }
+
+    @Test
+    void shouldDescribeConnection() {
+        ServletConnection connection = servletRequest("http://localhost/").getServletConnection();
+        assertEquals("socket", connection.getConnectionId());
+        assertEquals("http/1.1", connection.getProtocol());
+        assertEquals("", connection.getProtocolConnectionId());
+        assertFalse(connection.isSecure());
+
+        assertTrue(servletRequest("https://localhost/").getServletConnection().isSecure());
+    }
+
+    private static HttpServletRequest servletRequest(String uri) {
+        return servletRequest(uri, WritableHeaders.create());
+    }
+
+    private static HttpServletRequest servletRequest(String uri, WritableHeaders<?> headers) {
+        return context(uri, headers).getHttpServletRequest();
+    }
+
+    private static HelidonContainerRequestContext context(String uri, WritableHeaders<?> headers) {
+        return new HelidonContainerRequestContext(new StubServerRequest(uri, headers),
+                                                  HelidonResourceInfo.create(HelidonResourceInfoTest.SampleService.class,
+                                                                             "doNothing"));
+    }
+
+    private static HttpServletRequest entityRequest(String text) {
+        HelidonContainerRequestContext context = context("http://localhost/", WritableHeaders.create());
+        context.setEntityStream(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+        return context.getHttpServletRequest();
+    }
+}
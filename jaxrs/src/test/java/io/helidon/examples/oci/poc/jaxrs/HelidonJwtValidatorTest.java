@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.examples.oci.poc.jaxrs;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Principal;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * Unit tests for {@link HelidonJwtValidator}, with key pairs generated by the tests.
+ */
+class HelidonJwtValidatorTest {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private static KeyPair rsa;
+    private static KeyPair ec;
+
+    @TempDir
+    Path dir;
+
+    private final MutableClock clock = new MutableClock();
+    private HelidonJwtValidator validator;
+
+    @BeforeAll
+    static void generateKeys() throws GeneralSecurityException {
+        KeyPairGenerator rsaGenerator = KeyPairGenerator.getInstance("RSA");
+        rsaGenerator.initialize(2048);
+        rsa = rsaGenerator.generateKeyPair();
+        KeyPairGenerator ecGenerator = KeyPairGenerator.getInstance("EC");
+        ecGenerator.initialize(new ECGenParameterSpec("secp256r1"));
+        ec = ecGenerator.generateKeyPair();
+    }
+
+    @AfterEach
+    void close() {
+        if (validator != null) {
+            validator.close();
+        }
+    }
+
+    @Test
+    void shouldAcceptValidTokens() throws Exception {
+        validator = validator(rsaJwk("rsa-1") + "," + ecJwk("ec-1"));
+
+        Principal principal = validator.resolve(token("RS256", "rsa-1", rsa.getPrivate(), "alice", NOW.plusSeconds(60)));
+        HelidonJwtValidator.JwtPrincipal jwt = assertInstanceOf(HelidonJwtValidator.JwtPrincipal.class, principal);
+        assertEquals("alice", jwt.getName());
+        assertEquals(NOW.plusSeconds(60), jwt.expiresAt());
+
+        principal = validator.resolve(token("ES256", "ec-1", ec.getPrivate(), "bob", NOW.plusSeconds(60)));
+        assertEquals("bob", principal.getName());
+    }
+
+    @Test
+    void shouldRejectInvalidTokens() throws Exception {
+        validator = validator(rsaJwk("rsa-1"));
+        String valid = token("RS256", "rsa-1", rsa.getPrivate(), "alice", NOW.plusSeconds(60));
+
+        assertNull(validator.resolve(valid.substring(0, valid.length() - 4) + "AAAA"), "Bad signature");
+        assertNull(validator.resolve(token("RS256", "rsa-1", rsa.getPrivate(), "alice", NOW.minusSeconds(60))),
+                   "Expired");
+        assertNull(validator.resolve(token("RS256", "rsa-2", rsa.getPrivate(), "alice", NOW.plusSeconds(60))),
+                   "Unknown key");
+        assertNull(validator.resolve(token("ES256", "rsa-1", ec.getPrivate(), "alice", NOW.plusSeconds(60))),
+                   "Algorithm not matching the key");
+        assertNull(validator.resolve("not-a-token"), "Malformed");
+        assertNull(validator.resolve(encode("[".repeat(10000) + "]".repeat(10000)) + ".e30.AAAA"), "Deeply nested");
+    }
+
+    @Test
+    void shouldRejectCachedTokenOnceExpired() throws Exception {
+        validator = validator(rsaJwk("rsa-1"));
+        String token = token("RS256", "rsa-1", rsa.getPrivate(), "alice", NOW.plusSeconds(60));
+
+        assertEquals("alice", validator.resolve(token).getName());
+        clock.now = NOW.plusSeconds(120);
+        assertNull(validator.resolve(token));
+    }
+
+    @Test
+    void shouldUseRotatedKeysAfterRefresh() throws Exception {
+        validator = validator(rsaJwk("rsa-1"));
+        String token = token("ES256", "ec-1", ec.getPrivate(), "bob", NOW.plusSeconds(60));
+        assertNull(validator.resolve(token));
+
+        Files.writeString(dir.resolve("jwks.json"), jwks(rsaJwk("rsa-1") + "," + ecJwk("ec-1")));
+        validator.refresh();
+
+        assertEquals("bob", validator.resolve(token).getName(), "Unknown key must not be cached");
+    }
+
+    @Test
+    void shouldRefreshOnUnknownKey() throws Exception {
+        validator = validator(rsaJwk("rsa-1"));
+        String token = token("ES256", "ec-1", ec.getPrivate(), "bob", NOW.plusSeconds(60));
+        Files.writeString(dir.resolve("jwks.json"), jwks(rsaJwk("rsa-1") + "," + ecJwk("ec-1")));
+
+        assertNull(validator.resolve(token), "Keys were loaded too recently to reload");
+        clock.now = NOW.plusSeconds(31);
+        assertEquals("bob", validator.resolve(token).getName());
+    }
+
+    @Test
+    void shouldRejectCachedTokenOfRemovedKey() throws Exception {
+        validator = validator(rsaJwk("rsa-1") + "," + ecJwk("ec-1"));
+        String token = token("RS256", "rsa-1", rsa.getPrivate(), "alice", NOW.plusSeconds(60));
+        assertEquals("alice", validator.resolve(token).getName());
+
+        Files.writeString(dir.resolve("jwks.json"), jwks(ecJwk("ec-1")));
+        validator.refresh();
+
+        assertNull(validator.resolve(token));
+    }
+
+    @Test
+    void shouldTimeOutUnresponsiveEndpoint() throws Exception {
+        // connections are queued by the backlog, but never answered
+        try (ServerSocket server = new ServerSocket(0)) {
+            HelidonJwtValidator.Builder builder = HelidonJwtValidator.builder()
+                    .jwks(URI.create("http://localhost:" + server.getLocalPort() + "/jwks"))
+                    .refreshInterval(Duration.ZERO)
+                    .requestTimeout(Duration.ofMillis(200));
+
+            assertTimeoutPreemptively(Duration.ofSeconds(5),
+                                      () -> assertThrows(IllegalStateException.class, builder::build));
+        }
+    }
+
+    private HelidonJwtValidator validator(String keys) throws IOException {
+        Path file = dir.resolve("jwks.json");
+        Files.writeString(file, jwks(keys));
+        return HelidonJwtValidator.builder()
+                .jwks(file)
+                .refreshInterval(Duration.ZERO)
+                .leeway(Duration.ZERO)
+                .clock(clock)
+                .build();
+    }
+
+    private static String jwks(String keys) {
+        return "{\"keys\": [" + keys + "]}";
+    }
+
+    private static String rsaJwk(String kid) {
+        RSAPublicKey key = (RSAPublicKey) rsa.getPublic();
+        return "{\"kty\": \"RSA\", \"kid\": \"" + kid + "\", \"use\": \"sig\", \"n\": \"" + unsigned(key.getModulus())
+                + "\", \"e\": \"" + unsigned(key.getPublicExponent()) + "\"}";
+    }
+
+    private static String ecJwk(String kid) {
+        ECPublicKey key = (ECPublicKey) ec.getPublic();
+        return "{\"kty\": \"EC\", \"kid\": \"" + kid + "\", \"crv\": \"P-256\", \"x\": \""
+                + unsigned(key.getW().getAffineX()) + "\", \"y\": \"" + unsigned(key.getW().getAffineY()) + "\"}";
+    }
+
+    private static String token(String alg, String kid, PrivateKey key, String subject, Instant expiry)
+            throws GeneralSecurityException {
+        String header = "{\"alg\":\"" + alg + "\",\"typ\":\"JWT\",\"kid\":\"" + kid + "\"}";
+        String payload = "{\"sub\":\"" + subject + "\",\"exp\":" + expiry.getEpochSecond() + "}";
+        String content = encode(header) + "." + encode(payload);
+        Signature signature = Signature.getInstance(alg.startsWith("RS") ? "SHA256withRSA" : "SHA256withECDSAinP1363Format");
+        signature.initSign(key);
+        signature.update(content.getBytes(StandardCharsets.US_ASCII));
+        return content + "." + ENCODER.encodeToString(signature.sign());
+    }
+
+    private static String encode(String json) {
+        return ENCODER.encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String unsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes[0] == 0 && bytes.length > 1) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return ENCODER.encodeToString(bytes);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now = NOW;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
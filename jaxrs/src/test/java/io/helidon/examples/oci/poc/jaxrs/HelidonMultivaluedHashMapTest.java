@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.examples.oci.poc.jaxrs;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.helidon.examples.oci.poc.jaxrs.testing.StubServerRequest;
+import io.helidon.http.Header;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.HeaderValues;
+import io.helidon.http.WritableHeaders;
+
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link HelidonMultivaluedHashMap}.
+ */
+class HelidonMultivaluedHashMapTest {
+
+    private final StubServerRequest request = new StubServerRequest("http://localhost/", WritableHeaders.create()
+            .set(HeaderNames.ACCEPT, "text/plain", "application/json"));
+    private final MultivaluedMap<String, String> headers = new HelidonMultivaluedHashMap(request);
+
+    @Test
+    void shouldCacheHeaderNamesAfterFlood() {
+        for (int i = 0; i < 1000; i++) {
+            HelidonMultivaluedHashMap.headerName("X-Junk-" + i);
+        }
+        assertSame(HelidonMultivaluedHashMap.headerName("X-Late"),
+                   HelidonMultivaluedHashMap.headerName(new String("X-Late")),
+                   "Names seen after the cache filled up must still be cached");
+    }
+
+    @Test
+    void shouldGetValuesOfExistingHeadersOnly() {
+        assertEquals(List.of("text/plain", "application/json"), headers.get("accept"));
+        assertEquals("text/plain", headers.getFirst("Accept"));
+        assertEquals(List.of(), headers.get("User"));
+        assertNull(headers.getFirst("User"));
+    }
+
+    @Test
+    void shouldAppendWithoutChangingSharedHeaders() {
+        Header shared = HeaderValues.create(HeaderNames.create("User"), "alice");
+        request.header(shared);
+
+        headers.add("User", "bob");
+        headers.addAll("User", "carol", "dave");
+        headers.add("Accept", "text/html");
+
+        assertEquals(List.of("alice", "bob", "carol", "dave"), headers.get("User"));
+        assertEquals(List.of("alice"), shared.allValues(), "Header set on the request must not change");
+        assertEquals(List.of("text/plain", "application/json", "text/html"), headers.get("Accept"));
+    }
+
+    @Test
+    void shouldViewCurrentHeaders() {
+        Set<String> names = headers.keySet();
+        Set<Map.Entry<String, List<String>>> entries = headers.entrySet();
+
+        headers.putSingle("User", "alice");
+
+        assertEquals(2, names.size());
+        assertTrue(names.contains("User"));
+        assertTrue(headers.values().contains(List.of("alice")));
+        for (Map.Entry<String, List<String>> entry : entries) {
+            if (entry.getKey().equalsIgnoreCase("User")) {
+                assertEquals(List.of("alice"), entry.setValue(List.of("bob")));
+            }
+        }
+        assertEquals(List.of("bob"), headers.get("User"), "Entries must write through to the request");
+        assertEquals(List.of("bob"), request.headers().get(HeaderNames.create("User")).allValues());
+    }
+}
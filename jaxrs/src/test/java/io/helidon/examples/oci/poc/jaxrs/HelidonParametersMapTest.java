@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.examples.oci.poc.jaxrs;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.helidon.common.parameters.Parameters;
+
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link HelidonParametersMap}.
+ */
+class HelidonParametersMapTest {
+
+    @Test
+    void shouldViewParameters() {
+        MultivaluedMap<String, String> map = new HelidonParametersMap(
+                Parameters.create("test", Map.of("a", List.of("1", "2"), "flag", List.of())));
+
+        assertEquals(List.of("1", "2"), map.get("a"));
+        assertEquals("1", map.getFirst("a"));
+        assertEquals(List.of(""), map.get("flag"));
+        assertNull(map.get("missing"));
+        assertEquals(Set.of("a", "flag"), map.keySet());
+        assertEquals(2, map.entrySet().size());
+        assertThrows(UnsupportedOperationException.class, () -> map.add("a", "3"));
+    }
+
+    @Test
+    void shouldParseRawParameters() {
+        MultivaluedMap<String, String> map = HelidonParametersMap.parseRaw("uri/query", "a%20b=c%20d&a%20b=e&&flag", '&');
+
+        assertEquals(List.of("c%20d", "e"), map.get("a%20b"));
+        assertEquals(List.of(""), map.get("flag"));
+        assertEquals(2, map.size());
+        assertTrue(HelidonParametersMap.parseRaw("uri/matrix", "", ';').isEmpty());
+    }
+
+    @Test
+    void shouldCompareValueCounts() {
+        MultivaluedMap<String, String> map = HelidonParametersMap.parseRaw("uri/query", "a=1&a=1&a=2", '&');
+
+        assertTrue(map.equalsIgnoreValueOrder(HelidonParametersMap.parseRaw("uri/query", "a=2&a=1&a=1", '&')));
+        assertFalse(map.equalsIgnoreValueOrder(HelidonParametersMap.parseRaw("uri/query", "a=1&a=2&a=2", '&')));
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.examples.oci.poc.jaxrs;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Unit tests for {@link HelidonPrincipalCache}.
+ */
+class HelidonPrincipalCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+    // resolves tokens of the form "token-<user>"
+    private final PrincipalResolver identity = token -> {
+        calls.incrementAndGet();
+        if (token.startsWith("token-")) {
+            String name = token.substring(6);
+            return () -> name;
+        }
+        return null;
+    };
+
+    @Test
+    void shouldResolveTokenOnce() {
+        HelidonPrincipalCache cache = HelidonPrincipalCache.builder(identity)
+                .ticker(now::get)
+                .build();
+
+        Principal first = cache.resolve("token-alice");
+        Principal second = cache.resolve("token-alice");
+
+        assertEquals("alice", first.getName());
+        assertEquals("alice", second.getName());
+        assertNull(cache.resolve("invalid"));
+        assertNull(cache.resolve("invalid"));
+        assertEquals(2, calls.get(), "Valid and invalid tokens must both be cached");
+        assertEquals(2, cache.hits());
+        assertEquals(2, cache.misses());
+    }
+
+    @Test
+    void shouldResolveAgainAfterTtl() {
+        HelidonPrincipalCache cache = HelidonPrincipalCache.builder(identity)
+                .ttl(Duration.ofSeconds(10))
+                .ticker(now::get)
+                .build();
+
+        cache.resolve("token-alice");
+        now.addAndGet(Duration.ofSeconds(11).toNanos());
+        cache.resolve("token-alice");
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void shouldStayWithinMaxSize() {
+        HelidonPrincipalCache cache = HelidonPrincipalCache.builder(identity)
+                .maxSize(3)
+                .ticker(now::get)
+                .build();
+
+        for (int i = 0; i < 10; i++) {
+            cache.resolve("token-user" + i);
+        }
+
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    void shouldKeepPrincipalsDuringFloodOfInvalidTokens() {
+        HelidonPrincipalCache cache = HelidonPrincipalCache.builder(identity)
+                .maxSize(16)
+                .ticker(now::get)
+                .build();
+
+        cache.resolve("token-alice");
+        for (int i = 0; i < 1000; i++) {
+            assertNull(cache.resolve("random" + i));
+        }
+        cache.resolve("token-alice");
+
+        assertEquals(1001, calls.get(), "Invalid tokens must not evict valid principals");
+        assertEquals(3, cache.size(), "Invalid tokens must stay within an eighth of the size");
+    }
+
+    @Test
+    void shouldResolveAgainAfterClear() {
+        HelidonPrincipalCache cache = HelidonPrincipalCache.builder(identity)
+                .ticker(now::get)
+                .build();
+
+        cache.resolve("token-alice");
+        cache.clear();
+        cache.resolve("token-alice");
+
+        assertEquals(2, calls.get());
+    }
+}
@@ -16,6 +16,8 @@
 package io.helidon.examples.oci.poc.jaxrs;
 
 import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -46,7 +49,7 @@ class HelidonResourceInfoTest {
 
     @BeforeEach
     void clearCache() {
-        HelidonResourceInfo.METHOD_MAP.clear();
+        HelidonResourceInfo.clearMethodCache(SampleService.class);
     }
 
     @Test
@@ -59,6 +62,21 @@ class HelidonResourceInfoTest {
                      "The returned class should be the SampleService class");
     }
 
+    @Test
+    void shouldUseLoadedResourceClass() {
+        HelidonResourceInfo info = new HelidonResourceInfo(SampleService.class, "void doNothing()");
+        Thread thread = Thread.currentThread();
+        ClassLoader contextLoader = thread.getContextClassLoader();
+        // a context class loader that cannot see the class must not be consulted
+        thread.setContextClassLoader(new URLClassLoader(new URL[0], null));
+        try {
+            assertSame(SampleService.class, info.getResourceClass());
+            assertEquals("doNothing", info.getResourceMethod().getName());
+        } finally {
+            thread.setContextClassLoader(contextLoader);
+        }
+    }
+
     @Test
     void shouldThrowWhenClassNotFound() {
         HelidonResourceInfo info = new HelidonResourceInfo(
@@ -99,10 +117,9 @@ class HelidonResourceInfoTest {
         assertEquals(String.class, method.getReturnType());
 
         // Verify that the method was stored in the static cache
-        String mapKey = SampleService.class.getName() + "::" + signature;
-        Method cached = HelidonResourceInfo.METHOD_MAP.get(mapKey);
+        Method cached = HelidonResourceInfo.METHODS.get(SampleService.class).get(signature);
         assertSame(method, cached,
-                   "The located method must be stored in METHOD_MAP for future look‑ups");
+                   "The located method must be stored in METHODS for future look‑ups");
     }
 
     @Test
@@ -110,8 +127,7 @@ class HelidonResourceInfoTest {
         // Populate the cache manually
         Method original = SampleService.class.getMethod("hello", String.class);
         String signature = HelidonResourceInfo.methodSignature(original);
-        String mapKey = SampleService.class.getName() + "::" + signature;
-        HelidonResourceInfo.METHOD_MAP.put(mapKey, original);
+        HelidonResourceInfo.METHODS.get(SampleService.class).put(signature, original);
 
         // New instance – cache already contains the entry
         HelidonResourceInfo info = new HelidonResourceInfo(SampleService.class.getName(), signature);
@@ -119,7 +135,7 @@ class HelidonResourceInfoTest {
         Method method = info.getResourceMethod();
 
         assertSame(original, method,
-                   "When the entry is already in METHOD_MAP the same Method instance must be returned");
+                   "When the entry is already in METHODS the same Method instance must be returned");
     }
 
     @Test
@@ -134,5 +150,24 @@ class HelidonResourceInfoTest {
                                                         + "IllegalStateException must be thrown");
         assertTrue(ex.getMessage().contains(bogusSignature));
     }
-}
 
+    @Test
+    void shouldKeepClassLoadersApart() throws Exception {
+        String signature = "java.lang.String hello(java.lang.String)";
+        URL location = SampleService.class.getProtectionDomain().getCodeSource().getLocation();
+        ClassLoader original = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {location}, null)) {
+            Method method = new HelidonResourceInfo(SampleService.class.getName(), signature).getResourceMethod();
+
+            // Same class name, loaded again by an isolated loader (as after a redeploy)
+            Thread.currentThread().setContextClassLoader(loader);
+            Method other = new HelidonResourceInfo(SampleService.class.getName(), signature).getResourceMethod();
+
+            assertNotSame(method.getDeclaringClass(), other.getDeclaringClass(),
+                          "Classes from different loaders must not share cache entries");
+            assertSame(loader, other.getDeclaringClass().getClassLoader());
+        } finally {
+            Thread.currentThread().setContextClassLoader(original);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.examples.oci.poc.jaxrs;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.NewCookie;
+import javax.ws.rs.core.Response;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link HelidonResponse}.
+ */
+class HelidonResponseTest {
+
+    @Test
+    void shouldKeepHeadersAndEntity() {
+        byte[] entity = "denied".getBytes(StandardCharsets.UTF_8);
+        Response response = Response.status(Response.Status.TOO_MANY_REQUESTS)
+                .header("Retry-After", 30)
+                .header("WWW-Authenticate", "Bearer")
+                .type(MediaType.TEXT_PLAIN_TYPE)
+                .entity(entity)
+                .build();
+
+        assertEquals(429, response.getStatus());
+        assertSame(Response.Status.TOO_MANY_REQUESTS, response.getStatusInfo());
+        assertSame(entity, response.getEntity(), "Entity must not be converted");
+        assertEquals("30", response.getHeaderString("retry-after"));
+        assertEquals("Bearer", response.getHeaderString("WWW-Authenticate"));
+        assertEquals(MediaType.TEXT_PLAIN_TYPE, response.getMediaType());
+        assertEquals("text/plain", response.getHeaderString("Content-Type"));
+    }
+
+    @Test
+    void shouldRemoveHeaderSetToNull() {
+        Response response = Response.status(401)
+                .header("WWW-Authenticate", "Bearer")
+                .header("WWW-Authenticate", null)
+                .type("application/json")
+                .build();
+
+        assertNull(response.getHeaderString("WWW-Authenticate"));
+        assertEquals(MediaType.APPLICATION_JSON_TYPE, response.getMediaType());
+    }
+
+    @Test
+    void shouldShareBodilessResponses() {
+        assertSame(HelidonResponse.UNAUTHORIZED, Response.status(Response.Status.UNAUTHORIZED).build());
+        assertSame(HelidonResponse.SERVICE_UNAVAILABLE, Response.status(503).build());
+        assertTrue(HelidonResponse.FORBIDDEN.getMetadata().isEmpty());
+        assertThrows(UnsupportedOperationException.class,
+                     () -> HelidonResponse.NOT_FOUND.getMetadata().add("Location", "/"));
+
+        assertThrows(UnsupportedOperationException.class,
+                     () -> Response.status(401).build().getMetadata().putSingle("WWW-Authenticate", "Bearer"),
+                     "Response built from a bare status is shared");
+
+        Response withHeader = Response.status(401).header("WWW-Authenticate", "Bearer").build();
+        assertEquals("Bearer", withHeader.getHeaderString("WWW-Authenticate"));
+        assertNull(HelidonResponse.UNAUTHORIZED.getHeaderString("WWW-Authenticate"));
+        withHeader.getMetadata().add("Cache-Control", "no-store");
+        assertEquals("no-store", withHeader.getHeaderString("Cache-Control"));
+    }
+
+    @Test
+    void shouldFormatTypedHeaders() {
+        Response response = Response.ok()
+                .allow("GET", "HEAD")
+                .language(Locale.CANADA_FRENCH)
+                .tag("v1")
+                .location(URI.create("/echo/1"))
+                .link("/echo/2", "next")
+                .build();
+
+        assertEquals(Set.of("GET", "HEAD"), response.getAllowedMethods());
+        assertEquals(Locale.CANADA_FRENCH, response.getLanguage());
+        assertEquals("fr-CA", response.getHeaderString("Content-Language"));
+        assertEquals("\"v1\"", response.getHeaderString("ETag"));
+        assertEquals(new EntityTag("v1"), response.getEntityTag());
+        assertEquals(URI.create("/echo/1"), response.getLocation());
+        assertEquals(URI.create("/echo/2"), response.getLink("next").getUri());
+        assertEquals(-1, response.getLength());
+    }
+
+    @Test
+    void shouldParseSetCookieHeaders() {
+        Response response = Response.ok()
+                .header("Set-Cookie", "session=abc; Path=/echo; Max-Age=60; Secure; HttpOnly")
+                .header("Set-Cookie", "=invalid")
+                .build();
+
+        Map<String, NewCookie> cookies = response.getCookies();
+        assertEquals(Set.of("session"), cookies.keySet());
+        NewCookie session = cookies.get("session");
+        assertEquals("abc", session.getValue());
+        assertEquals("/echo", session.getPath());
+        assertEquals(60, session.getMaxAge());
+        assertTrue(session.isSecure() && session.isHttpOnly());
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.examples.oci.poc.jaxrs;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import javax.ws.rs.core.CacheControl;
+import javax.ws.rs.core.Cookie;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.NewCookie;
+import javax.ws.rs.ext.RuntimeDelegate;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the header delegates of {@link HelidonRuntimeDelegate}.
+ */
+class HelidonRuntimeDelegateTest {
+
+    @Test
+    void shouldShareDelegates() {
+        RuntimeDelegate delegate = RuntimeDelegate.getInstance();
+
+        assertSame(delegate.createHeaderDelegate(MediaType.class), delegate.createHeaderDelegate(MediaType.class));
+        assertThrows(IllegalArgumentException.class, () -> delegate.createHeaderDelegate(String.class));
+    }
+
+    @Test
+    void shouldConvertMediaTypeAndEntityTag() {
+        MediaType mediaType = MediaType.valueOf("application/json; charset=utf-8");
+
+        assertEquals(new MediaType("application", "json", Map.of("charset", "utf-8")), mediaType);
+        assertEquals("application/json;charset=utf-8", mediaType.toString());
+        assertSame(mediaType, MediaType.valueOf("application/json; charset=utf-8"));
+        assertEquals(new EntityTag("v1", true), EntityTag.valueOf("W/\"v1\""));
+        assertEquals("\"v1\"", new EntityTag("v1").toString());
+    }
+
+    @Test
+    void shouldConvertCacheControl() {
+        CacheControl cacheControl = CacheControl.valueOf("private=\"a, b\", max-age=60, no-store, ext=1");
+
+        assertTrue(cacheControl.isPrivate());
+        assertEquals(List.of("a", "b"), cacheControl.getPrivateFields());
+        assertEquals(60, cacheControl.getMaxAge());
+        assertTrue(cacheControl.isNoStore());
+        assertEquals("1", cacheControl.getCacheExtension().get("ext"));
+        assertEquals("private=\"a, b\", no-store, max-age=60, ext=1", cacheControl.toString());
+    }
+
+    @Test
+    void shouldConvertCookiesAndDates() {
+        NewCookie cookie = NewCookie.valueOf("session=abc; Path=/; Max-Age=60; Secure; HttpOnly");
+
+        assertEquals("session", cookie.getName());
+        assertEquals("/", cookie.getPath());
+        assertEquals(60, cookie.getMaxAge());
+        assertTrue(cookie.isSecure() && cookie.isHttpOnly());
+        assertEquals("session=abc; Path=/; Max-Age=60; Secure; HttpOnly", cookie.toString());
+        assertEquals(new Cookie("user", "alice"), Cookie.valueOf("user=alice"));
+
+        RuntimeDelegate.HeaderDelegate<Date> dates = RuntimeDelegate.getInstance().createHeaderDelegate(Date.class);
+        Date date = new Date(1_700_000_000_000L);
+        assertEquals("Tue, 14 Nov 2023 22:13:20 GMT", dates.toString(date));
+        assertEquals(date, dates.fromString(dates.toString(date)));
+        assertEquals("Sun, 05 Jan 2025 00:00:00 GMT", dates.toString(new Date(1_736_035_200_000L)),
+                     "Day of month must be padded to two digits");
+    }
+}
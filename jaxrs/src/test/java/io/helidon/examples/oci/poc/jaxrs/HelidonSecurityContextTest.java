@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.examples.oci.poc.jaxrs;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.helidon.examples.oci.poc.jaxrs.testing.StubServerRequest;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.WritableHeaders;
+
+import javax.ws.rs.core.SecurityContext;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link HelidonSecurityContext}.
+ */
+class HelidonSecurityContextTest {
+
+    @Test
+    void shouldMatchTrimmedRoles() {
+        SecurityContext context = context(WritableHeaders.create()
+                                                  .add(HeaderNames.create("X-User-Roles"), "  admin , ,user,,  "));
+
+        assertTrue(context.isUserInRole("admin"));
+        assertTrue(context.isUserInRole("user"));
+        assertFalse(context.isUserInRole("adm"), "Prefix of a role must not match");
+        assertFalse(context.isUserInRole(""), "Empty entries must not match");
+        assertFalse(context.isUserInRole(" admin"));
+        assertFalse(context(WritableHeaders.create()).isUserInRole("admin"), "No roles header");
+    }
+
+    @Test
+    void shouldMatchSchemesIgnoringCase() {
+        SecurityContext basic = context(authorization("bAsIc " + basic("alice:secret")));
+        assertEquals(SecurityContext.BASIC_AUTH, basic.getAuthenticationScheme());
+        assertEquals("alice", basic.getUserPrincipal().getName());
+
+        SecurityContext bearer = new HelidonSecurityContext(request(authorization("BEARER token")), token -> null);
+        assertEquals("BEARER", bearer.getAuthenticationScheme());
+
+        SecurityContext noSpace = context(authorization("Basic" + basic("alice:secret")));
+        assertNull(noSpace.getAuthenticationScheme(), "Scheme must be followed by a space");
+        assertNull(noSpace.getUserPrincipal());
+        assertNull(context(authorization("Bearertoken")).getAuthenticationScheme());
+    }
+
+    @Test
+    void shouldRejectInvalidBasicCredentials() {
+        assertNull(context(authorization("Basic not*base64")).getUserPrincipal(), "Invalid base64");
+        assertNull(context(authorization("Basic " + basic("alice"))).getUserPrincipal(), "No password separator");
+        assertNull(context(authorization("Basic " + basic(":secret"))).getUserPrincipal(), "Empty user name");
+    }
+
+    @Test
+    void shouldResolveBearerTokenWithResolver() {
+        WritableHeaders<?> headers = authorization("Bearer  abc ")
+                .add(HeaderNames.create("X-User-Name"), "mallory");
+        SecurityContext context = new HelidonSecurityContext(request(headers),
+                                                             token -> token.equals("abc") ? () -> "alice" : null);
+        assertEquals("alice", context.getUserPrincipal().getName(), "Token must be trimmed");
+
+        context = new HelidonSecurityContext(request(headers), token -> null);
+        assertNull(context.getUserPrincipal(), "Resolver must be used instead of the X-User-Name header");
+    }
+
+    @Test
+    void shouldFallBackToUserNameHeaderWithoutResolver() {
+        WritableHeaders<?> headers = authorization("Bearer abc")
+                .add(HeaderNames.create("X-User-Name"), "alice");
+        assertEquals("alice", context(headers).getUserPrincipal().getName());
+        assertNull(context(authorization("Bearer abc")).getUserPrincipal());
+        assertNull(context(WritableHeaders.create().add(HeaderNames.create("X-User-Name"), "alice")).getUserPrincipal(),
+                   "User name header alone must not authenticate");
+    }
+
+    @Test
+    void shouldRetryDefaultResolverAfterFailure() {
+        AtomicInteger attempts = new AtomicInteger();
+        long[] now = {0};
+        HelidonSecurityContext.DefaultResolver holder = new HelidonSecurityContext.DefaultResolver(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("Failed to load JSON Web Key Set");
+            }
+            return token -> (Principal) () -> token;
+        }, () -> now[0]);
+
+        assertNull(holder.get().resolve("alice"), "Tokens must be rejected after a failure");
+        assertNull(holder.get().resolve("alice"));
+        assertEquals(1, attempts.get(), "Creating the resolver must not be retried right away");
+
+        now[0] = HelidonSecurityContext.DefaultResolver.RETRY_NANOS;
+        assertEquals("alice", holder.get().resolve("alice").getName());
+        assertEquals("alice", holder.get().resolve("alice").getName());
+        assertEquals(2, attempts.get());
+
+        assertNull(new HelidonSecurityContext.DefaultResolver(() -> null, () -> 0).get(), "No resolver configured");
+    }
+
+    // no resolver is found on the test class path, nor configured by the key set property
+    private static SecurityContext context(WritableHeaders<?> headers) {
+        return new HelidonSecurityContext(request(headers));
+    }
+
+    private static StubServerRequest request(WritableHeaders<?> headers) {
+        return new StubServerRequest("https://localhost/", headers);
+    }
+
+    private static WritableHeaders<?> authorization(String value) {
+        return WritableHeaders.create().add(HeaderNames.AUTHORIZATION, value);
+    }
+
+    private static String basic(String credentials) {
+        return Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
+    }
+}
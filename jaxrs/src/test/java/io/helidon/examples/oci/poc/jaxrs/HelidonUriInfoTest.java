@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.examples.oci.poc.jaxrs;
+
+import java.net.URI;
+import java.util.List;
+
+import io.helidon.examples.oci.poc.jaxrs.testing.StubServerRequest;
+import io.helidon.http.WritableHeaders;
+
+import javax.ws.rs.core.PathSegment;
+import javax.ws.rs.core.UriInfo;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for {@link HelidonUriInfo}.
+ */
+class HelidonUriInfoTest {
+
+    @Test
+    void shouldLeaveOutDefaultPort() {
+        UriInfo info = uriInfo("http://localhost/greet/alice?lang=en");
+
+        assertEquals(URI.create("http://localhost/"), info.getBaseUri());
+        assertEquals(URI.create("http://localhost/greet/alice"), info.getAbsolutePath());
+        assertEquals(URI.create("http://localhost/greet/alice?lang=en"), info.getRequestUri());
+        assertEquals(URI.create("greet/alice?lang=en"), info.relativize(info.getRequestUri()));
+
+        assertEquals(URI.create("https://[::1]:8443/"), uriInfo("https://[::1]:8443/greet").getBaseUri());
+    }
+
+    @Test
+    void shouldSplitPathSegmentsWithMatrixParameters() {
+        UriInfo info = uriInfo("http://localhost/a%20b;m=1;m=2/c;n=x%20y");
+
+        List<PathSegment> decoded = info.getPathSegments();
+        assertEquals(2, decoded.size());
+        assertEquals("a b", decoded.get(0).getPath());
+        assertEquals(List.of("1", "2"), decoded.get(0).getMatrixParameters().get("m"));
+        assertEquals("c", decoded.get(1).getPath());
+        assertEquals("x y", decoded.get(1).getMatrixParameters().getFirst("n"));
+
+        List<PathSegment> raw = info.getPathSegments(false);
+        assertEquals("a%20b", raw.get(0).getPath());
+        assertEquals(List.of("1", "2"), raw.get(0).getMatrixParameters().get("m"));
+        assertEquals("x%20y", raw.get(1).getMatrixParameters().getFirst("n"));
+    }
+
+    @Test
+    void shouldDecodeQueryParametersOnRequest() {
+        UriInfo info = uriInfo("http://localhost/greet?name=a%20b&name=c");
+
+        assertEquals(List.of("a b", "c"), info.getQueryParameters().get("name"));
+        assertEquals(List.of("a%20b", "c"), info.getQueryParameters(false).get("name"));
+        assertEquals(info.getQueryParameters(), info.getQueryParameters(true));
+    }
+
+    private static UriInfo uriInfo(String uri) {
+        return new HelidonUriInfo(new StubServerRequest(uri, WritableHeaders.create()));
+    }
+}
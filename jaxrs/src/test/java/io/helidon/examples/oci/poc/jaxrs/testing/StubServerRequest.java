@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.examples.oci.poc.jaxrs.testing;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+import io.helidon.common.context.Context;
+import io.helidon.common.parameters.Parameters;
+import io.helidon.common.socket.PeerInfo;
+import io.helidon.common.uri.UriFragment;
+import io.helidon.common.uri.UriInfo;
+import io.helidon.common.uri.UriPath;
+import io.helidon.common.uri.UriQuery;
+import io.helidon.http.Header;
+import io.helidon.http.HttpPrologue;
+import io.helidon.http.Method;
+import io.helidon.http.RoutedPath;
+import io.helidon.http.ServerRequestHeaders;
+import io.helidon.http.WritableHeaders;
+import io.helidon.http.media.ReadableEntity;
+import io.helidon.webserver.ListenerContext;
+import io.helidon.webserver.ProxyProtocolData;
+import io.helidon.webserver.http.HttpSecurity;
+import io.helidon.webserver.http.ServerRequest;
+
+/**
+ * Server request for a requested URI with mutable headers, and nothing else.
+ * Only the members used by the JAX-RS adapters are supported; the entity is not.
+ * Shared by the tests of the adapters and by the benchmarks.
+ */
+public class StubServerRequest implements ServerRequest {
+
+    private final HttpPrologue prologue;
+    private final RoutedPath path;
+    private final UriQuery query;
+    private final UriInfo requestedUri;
+    private final WritableHeaders<?> writableHeaders;
+    private final ServerRequestHeaders headers;
+
+    /**
+     * Create a GET request.
+     *
+     * @param uri requested URI, with an encoded path and query; a URI that is only a path is
+     *            requested from {@code http://localhost}
+     * @param headers request headers, modified by {@link #header(Header)}
+     */
+    public StubServerRequest(String uri, WritableHeaders<?> headers) {
+        URI parsed = URI.create(uri.startsWith("/") ? "http://localhost" + uri : uri);
+        UriPath uriPath = UriPath.create(parsed.getRawPath());
+        String host = parsed.getHost();
+        this.query = parsed.getRawQuery() == null ? UriQuery.empty() : UriQuery.create(parsed.getRawQuery());
+        this.prologue = HttpPrologue.create("HTTP/1.1", "HTTP", "1.1", Method.GET, uriPath, query, UriFragment.empty());
+        this.path = new StubRoutedPath(uriPath);
+        // Helidon reports IPv6 hosts without brackets
+        this.requestedUri = UriInfo.builder()
+                .scheme(parsed.getScheme())
+                .host(host.startsWith("[") ? host.substring(1, host.length() - 1) : host)
+                .port(parsed.getPort() < 0 ? ("https".equals(parsed.getScheme()) ? 443 : 80) : parsed.getPort())
+                .path(uriPath)
+                .query(query)
+                .build();
+        this.writableHeaders = headers;
+        this.headers = ServerRequestHeaders.create(headers);
+    }
+
+    @Override
+    public HttpPrologue prologue() {
+        return prologue;
+    }
+
+    @Override
+    public ServerRequestHeaders headers() {
+        return headers;
+    }
+
+    @Override
+    public RoutedPath path() {
+        return path;
+    }
+
+    @Override
+    public UriQuery query() {
+        return query;
+    }
+
+    @Override
+    public UriInfo requestedUri() {
+        return requestedUri;
+    }
+
+    @Override
+    public void header(Header header) {
+        writableHeaders.set(header);
+    }
+
+    @Override
+    public int id() {
+        return 1;
+    }
+
+    @Override
+    public String socketId() {
+        return "socket";
+    }
+
+    @Override
+    public String serverSocketId() {
+        return "server";
+    }
+
+    @Override
+    public boolean isSecure() {
+        return "https".equals(requestedUri.scheme());
+    }
+
+    @Override
+    public void reset() {
+    }
+
+    @Override
+    public boolean continueSent() {
+        return false;
+    }
+
+    @Override
+    public PeerInfo remotePeer() {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
+
+    @Override
+    public PeerInfo localPeer() {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
+
+    @Override
+    public String authority() {
+        return requestedUri.authority();
+    }
+
+    @Override
+    public ReadableEntity content() {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
+
+    @Override
+    public Context context() {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
+
+    @Override
+    public ListenerContext listenerContext() {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
+
+    @Override
+    public HttpSecurity security() {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
+
+    @Override
+    public void streamFilter(UnaryOperator<InputStream> filterFunction) {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
+
+    @Override
+    public Optional<ProxyProtocolData> proxyProtocolData() {
+        return Optional.empty();
+    }
+
+    private record StubRoutedPath(UriPath uriPath) implements RoutedPath {
+
+        @Override
+        public Parameters pathParameters() {
+            return Parameters.empty("http/path");
+        }
+
+        @Override
+        public RoutedPath absolute() {
+            return this;
+        }
+
+        @Override
+        public String rawPath() {
+            return uriPath.rawPath();
+        }
+
+        @Override
+        public String rawPathNoParams() {
+            return uriPath.rawPathNoParams();
+        }
+
+        @Override
+        public String path() {
+            return uriPath.path();
+        }
+
+        @Override
+        public Parameters matrixParameters() {
+            return uriPath.matrixParameters();
+        }
+
+        @Override
+        public void validate() {
+            uriPath.validate();
+        }
+    }
+}
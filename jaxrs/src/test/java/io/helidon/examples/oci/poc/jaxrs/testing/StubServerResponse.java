@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.examples.oci.poc.jaxrs.testing;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.function.UnaryOperator;
+
+import io.helidon.common.uri.UriQuery;
+import io.helidon.http.Header;
+import io.helidon.http.ServerResponseHeaders;
+import io.helidon.http.ServerResponseTrailers;
+import io.helidon.http.Status;
+import io.helidon.webserver.http.ServerResponse;
+
+/**
+ * Server response that records status, headers, entity and streamed bytes, and nothing else.
+ * Shared by the tests of the adapters and by the benchmarks; call {@link #reset()} before
+ * reusing it for another request.
+ */
+public class StubServerResponse implements ServerResponse {
+
+    private final ServerResponseHeaders headers = ServerResponseHeaders.create();
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private Status status = Status.OK_200;
+    private Object entity;
+    private boolean sent;
+
+    /**
+     * Clear the recorded state.
+     */
+    public void reset() {
+        headers.clear();
+        output.reset();
+        status = Status.OK_200;
+        entity = null;
+        sent = false;
+    }
+
+    /**
+     * Entity passed to one of the send methods, if any.
+     *
+     * @return entity or {@code null}
+     */
+    public Object entity() {
+        return entity;
+    }
+
+    /**
+     * Bytes written to the output stream.
+     *
+     * @return written bytes
+     */
+    public byte[] written() {
+        return output.toByteArray();
+    }
+
+    @Override
+    public ServerResponse status(Status status) {
+        this.status = status;
+        return this;
+    }
+
+    @Override
+    public Status status() {
+        return status;
+    }
+
+    @Override
+    public ServerResponse header(Header header) {
+        headers.set(header);
+        return this;
+    }
+
+    @Override
+    public void send() {
+        sent = true;
+    }
+
+    @Override
+    public void send(byte[] bytes) {
+        entity = bytes;
+        sent = true;
+    }
+
+    @Override
+    public void send(Object entity) {
+        this.entity = entity;
+        sent = true;
+    }
+
+    @Override
+    public boolean isSent() {
+        return sent;
+    }
+
+    @Override
+    public OutputStream outputStream() {
+        sent = true;
+        return output;
+    }
+
+    @Override
+    public long bytesWritten() {
+        return output.size();
+    }
+
+    @Override
+    public ServerResponse whenSent(Runnable listener) {
+        // listeners are not called
+        return this;
+    }
+
+    @Override
+    public ServerResponse reroute(String newPath) {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
+
+    @Override
+    public ServerResponse reroute(String path, UriQuery query) {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
+
+    @Override
+    public ServerResponse next() {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
+
+    @Override
+    public ServerResponseHeaders headers() {
+        return headers;
+    }
+
+    @Override
+    public ServerResponseTrailers trailers() {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
+
+    @Override
+    public void streamResult(String result) {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
+
+    @Override
+    public void streamFilter(UnaryOperator<OutputStream> filterFunction) {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
+}